@@ -0,0 +1,24 @@
+package com.vtt;
+
+public enum AreaShape {
+    CONE("Cone"),
+    SPHERE("Sphere"),
+    LINE("Line"),
+    CUBE("Cube");
+
+    private final String label;
+
+    AreaShape(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() { return label; }
+
+    /** Spheres look the same whichever way they face. */
+    public boolean isDirectional() { return this != SPHERE; }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,64 @@
+package com.vtt;
+
+import java.util.Arrays;
+
+/**
+ * An area-of-effect template laid over the grid: a shape, a size in feet, a facing
+ * and an origin cell. Coverage comes from the cached {@link CoverageMask}, shifted
+ * into place one map row at a time.
+ */
+public class AreaTemplate {
+    public static final int FEET_PER_CELL = 5;
+
+    private AreaShape shape;
+    private int sizeFeet;
+    private int direction = 0;
+    private int originX, originY;
+
+    public AreaTemplate(AreaShape shape, int sizeFeet) {
+        this.shape = shape;
+        this.sizeFeet = sizeFeet;
+    }
+
+    public AreaShape getShape() { return shape; }
+    public int getSizeFeet() { return sizeFeet; }
+    public int getDirection() { return direction; }
+    public int getOriginX() { return originX; }
+    public int getOriginY() { return originY; }
+
+    public void setShape(AreaShape shape) { this.shape = shape; }
+    public void setSizeFeet(int sizeFeet) { this.sizeFeet = sizeFeet; }
+    public void setDirection(int direction) { this.direction = Math.floorMod(direction, CoverageMask.DIRECTIONS); }
+
+    public void setOrigin(int originX, int originY) {
+        this.originX = originX;
+        this.originY = originY;
+    }
+
+    /**
+     * Writes the covered cells into {@code mapRows}, one bitmask per map row where bit x
+     * is column x. {@code columns} must be at most 64.
+     */
+    public void fillCoverage(long[] mapRows, int columns) {
+        Arrays.fill(mapRows, 0L);
+
+        CoverageMask mask = CoverageMask.of(shape, sizeFeet / FEET_PER_CELL, direction);
+        int radius = mask.getRadius();
+        int shift = originX - radius;
+        long columnMask = columns >= 64 ? -1L : (1L << columns) - 1;
+
+        for (int i = 0; i < mask.getRowCount(); i++) {
+            int y = originY - radius + i;
+            if (y < 0 || y >= mapRows.length) continue;
+
+            long bits = mask.getRow(i);
+            bits = shift >= 0 ? bits << shift : bits >>> -shift;
+            mapRows[y] = bits & columnMask;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d ft %s at (%d, %d)", sizeFeet, shape.getLabel(), originX, originY);
+    }
+}
@@ -0,0 +1,45 @@
+package com.vtt;
+
+import java.util.List;
+
+/**
+ * Describes exactly what changed in a {@link CombatTracker}, so listeners can update
+ * only the affected tokens instead of redrawing everything.
+ */
+public class CombatEvent {
+
+    public enum Type {
+        /** A token joined initiative at {@link #getIndex()}. */
+        JOINED,
+        /** A token left initiative from {@link #getIndex()}. */
+        LEFT,
+        /** The turn moved; tokens are the previous (may be absent) then the new active token. */
+        TURN_CHANGED,
+        /** A token's initiative changed and it now sits at {@link #getIndex()}. */
+        REORDERED,
+        HP_CHANGED,
+        CONDITIONS_CHANGED
+    }
+
+    private final Type type;
+    private final List<Token> tokens;
+    private final int index;
+    private final int round;
+
+    public CombatEvent(Type type, List<Token> tokens, int index, int round) {
+        this.type = type;
+        this.tokens = List.copyOf(tokens);
+        this.index = index;
+        this.round = round;
+    }
+
+    public Type getType() { return type; }
+    public List<Token> getTokens() { return tokens; }
+    public int getIndex() { return index; }
+    public int getRound() { return round; }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s (index %d, round %d)", type, tokens, index, round);
+    }
+}
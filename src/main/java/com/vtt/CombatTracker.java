@@ -0,0 +1,143 @@
+package com.vtt;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Initiative order and turn engine.
+ *
+ * Tokens are kept sorted by initiative (highest first, ties in join order). Every
+ * mutation publishes a single {@link CombatEvent} naming only the tokens it touched,
+ * so advancing a turn costs two token updates no matter how big the fight is.
+ */
+public class CombatTracker {
+    private final List<Token> order = new ArrayList<>();
+    private final EventBus<CombatEvent> events = new EventBus<>();
+    private int activeIndex = -1;
+    private int round = 0;
+
+    public EventBus<CombatEvent> getEvents() { return events; }
+    public List<Token> getOrder() { return Collections.unmodifiableList(order); }
+    public int getRound() { return round; }
+
+    public Token getActiveToken() {
+        return activeIndex >= 0 ? order.get(activeIndex) : null;
+    }
+
+    public boolean isInCombat(Token token) {
+        return token.getCombatant() != null;
+    }
+
+    public void join(Token token, int initiative, int maxHp) {
+        if (isInCombat(token)) return;
+
+        token.setCombatant(new Combatant(initiative, maxHp));
+
+        int index = insertionIndex(initiative);
+        order.add(index, token);
+        if (index <= activeIndex) {
+            activeIndex++;
+        }
+
+        publish(CombatEvent.Type.JOINED, index, token);
+    }
+
+    public void leave(Token token) {
+        int index = order.indexOf(token);
+        if (index < 0) return;
+
+        order.remove(index);
+        token.setCombatant(null);
+
+        boolean wasActive = index == activeIndex;
+        if (order.isEmpty()) {
+            activeIndex = -1;
+            round = 0;
+        } else if (index < activeIndex) {
+            activeIndex--;
+        } else if (wasActive && activeIndex >= order.size()) {
+            activeIndex = 0;
+            round++;
+        }
+
+        publish(CombatEvent.Type.LEFT, index, token);
+        if (wasActive && activeIndex >= 0) {
+            // The next combatant in line inherits the turn
+            publish(CombatEvent.Type.TURN_CHANGED, activeIndex, order.get(activeIndex));
+        }
+    }
+
+    public void nextTurn() {
+        if (order.isEmpty()) return;
+
+        Token previous = getActiveToken();
+        activeIndex = (activeIndex + 1) % order.size();
+        if (activeIndex == 0) {
+            round++;
+        }
+
+        Token current = order.get(activeIndex);
+        if (previous != null && previous != current) {
+            publish(CombatEvent.Type.TURN_CHANGED, activeIndex, previous, current);
+        } else {
+            publish(CombatEvent.Type.TURN_CHANGED, activeIndex, current);
+        }
+    }
+
+    /**
+     * Changes a combatant's initiative and moves it to its new place in the order. The
+     * active combatant keeps the turn, wherever it ends up.
+     */
+    public void setInitiative(Token token, int initiative) {
+        Combatant combatant = token.getCombatant();
+        int from = order.indexOf(token);
+        if (combatant == null || from < 0 || combatant.getInitiative() == initiative) return;
+
+        Token active = getActiveToken();
+        order.remove(from);
+        combatant.setInitiative(initiative);
+        int to = insertionIndex(initiative);
+        order.add(to, token);
+        if (active != null) {
+            activeIndex = order.indexOf(active);
+        }
+
+        publish(CombatEvent.Type.REORDERED, to, token);
+    }
+
+    public void changeHp(Token token, int delta) {
+        Combatant combatant = token.getCombatant();
+        if (combatant == null || delta == 0) return;
+
+        int before = combatant.getHp();
+        combatant.setHp(before + delta);
+        if (combatant.getHp() != before) {
+            publish(CombatEvent.Type.HP_CHANGED, order.indexOf(token), token);
+        }
+    }
+
+    public void toggleCondition(Token token, Condition condition) {
+        Combatant combatant = token.getCombatant();
+        if (combatant == null) return;
+
+        combatant.toggleCondition(condition);
+        publish(CombatEvent.Type.CONDITIONS_CHANGED, order.indexOf(token), token);
+    }
+
+    /**
+     * Slot after every combatant with the same or higher initiative, so ties keep the
+     * order in which they were inserted.
+     */
+    private int insertionIndex(int initiative) {
+        int index = 0;
+        while (index < order.size() && order.get(index).getCombatant().getInitiative() >= initiative) {
+            index++;
+        }
+        return index;
+    }
+
+    private void publish(CombatEvent.Type type, int index, Token... tokens) {
+        events.publish(new CombatEvent(type, List.of(tokens), index, round));
+    }
+}
@@ -0,0 +1,43 @@
+package com.vtt;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Combat state for a token that has joined initiative. Mutated only through
+ * {@link CombatTracker} so every change is published as an event.
+ */
+public class Combatant {
+    private int initiative;
+    private int hp;
+    private final int maxHp;
+    private final EnumSet<Condition> conditions = EnumSet.noneOf(Condition.class);
+
+    public Combatant(int initiative, int maxHp) {
+        this.initiative = initiative;
+        this.hp = maxHp;
+        this.maxHp = maxHp;
+    }
+
+    public int getInitiative() { return initiative; }
+    public int getHp() { return hp; }
+    public int getMaxHp() { return maxHp; }
+    public Set<Condition> getConditions() { return Collections.unmodifiableSet(conditions); }
+
+    void setInitiative(int initiative) { this.initiative = initiative; }
+    void setHp(int hp) { this.hp = Math.max(0, Math.min(maxHp, hp)); }
+
+    boolean toggleCondition(Condition condition) {
+        if (!conditions.remove(condition)) {
+            conditions.add(condition);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("init %d, %d/%d HP %s", initiative, hp, maxHp, conditions);
+    }
+}
@@ -0,0 +1,31 @@
+package com.vtt;
+
+public enum Condition {
+    BLINDED("Blinded"),
+    CHARMED("Charmed"),
+    DEAFENED("Deafened"),
+    FRIGHTENED("Frightened"),
+    GRAPPLED("Grappled"),
+    INCAPACITATED("Incapacitated"),
+    INVISIBLE("Invisible"),
+    PARALYZED("Paralyzed"),
+    PETRIFIED("Petrified"),
+    POISONED("Poisoned"),
+    PRONE("Prone"),
+    RESTRAINED("Restrained"),
+    STUNNED("Stunned"),
+    UNCONSCIOUS("Unconscious");
+
+    private final String label;
+
+    Condition(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() { return label; }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
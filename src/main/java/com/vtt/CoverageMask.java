@@ -0,0 +1,92 @@
+package com.vtt;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Precomputed set of grid cells covered by one shape/size/direction, stored as one
+ * bitmask per row of a (2 * radius + 1) square window centred on the origin cell.
+ *
+ * Masks are computed once on first use and cached, so moving a template only costs
+ * a shift and an AND per row. A cell is covered when its centre lies inside the area.
+ */
+public final class CoverageMask {
+
+    /** Largest supported size; keeps every window row inside a single long. */
+    public static final int MAX_SIZE_CELLS = 24;
+    public static final int DIRECTIONS = 8;
+
+    private static final double EPSILON = 1e-9;
+    private static final Map<Long, CoverageMask> CACHE = new HashMap<>();
+
+    private final int radius;
+    private final long[] rows;
+
+    private CoverageMask(int radius, long[] rows) {
+        this.radius = radius;
+        this.rows = rows;
+    }
+
+    /**
+     * Returns the cached mask for the given shape, size in cells and direction
+     * (0 = east, counting clockwise in 45 degree steps). FX thread only.
+     */
+    public static CoverageMask of(AreaShape shape, int sizeCells, int direction) {
+        int size = Math.max(1, Math.min(MAX_SIZE_CELLS, sizeCells));
+        int dir = shape.isDirectional() ? Math.floorMod(direction, DIRECTIONS) : 0;
+        long key = ((long) shape.ordinal() << 16) | ((long) size << 8) | dir;
+        return CACHE.computeIfAbsent(key, k -> compute(shape, size, dir));
+    }
+
+    public int getRadius() { return radius; }
+
+    /**
+     * Bits for row {@code index} of the window; bit c is window column c, i.e. grid
+     * column {@code originX - radius + c}.
+     */
+    public long getRow(int index) { return rows[index]; }
+
+    public int getRowCount() { return rows.length; }
+
+    private static CoverageMask compute(AreaShape shape, int size, int direction) {
+        // Diagonal cones reach about 1.12 * size cells from the origin
+        int radius = (int) Math.ceil(size * 1.2) + 1;
+        long[] rows = new long[2 * radius + 1];
+
+        double angle = Math.toRadians(direction * 45.0);
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+
+        for (int dy = -radius; dy <= radius; dy++) {
+            for (int dx = -radius; dx <= radius; dx++) {
+                // Distance along the facing direction, and signed distance across it
+                double along = dx * cos + dy * sin;
+                double across = -dx * sin + dy * cos;
+
+                if (covers(shape, size, dx, dy, along, across)) {
+                    rows[dy + radius] |= 1L << (dx + radius);
+                }
+            }
+        }
+        return new CoverageMask(radius, rows);
+    }
+
+    private static boolean covers(AreaShape shape, int size, int dx, int dy, double along, double across) {
+        switch (shape) {
+            case SPHERE:
+                return dx * dx + dy * dy <= size * size;
+            case CONE:
+                // Width at any point equals the distance from the origin
+                return along > EPSILON && along <= size + EPSILON && Math.abs(across) <= along / 2 + EPSILON;
+            case LINE:
+                // One cell (5 ft) wide
+                return along > EPSILON && along <= size + EPSILON && Math.abs(across) <= 0.5 + EPSILON;
+            case CUBE:
+                // The origin sits on the middle of the cube's near face
+                return along > EPSILON && along <= size + EPSILON
+                        && across > -size / 2.0 + EPSILON && across <= size / 2.0 + EPSILON;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.vtt;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Minimal synchronous publish/subscribe hub. Events are delivered on the publishing
+ * thread, in subscription order.
+ */
+public class EventBus<E> {
+    private final List<Consumer<? super E>> listeners = new CopyOnWriteArrayList<>();
+
+    public void subscribe(Consumer<? super E> listener) {
+        listeners.add(listener);
+    }
+
+    public void unsubscribe(Consumer<? super E> listener) {
+        listeners.remove(listener);
+    }
+
+    public void publish(E event) {
+        for (Consumer<? super E> listener : listeners) {
+            listener.accept(event);
+        }
+    }
+}
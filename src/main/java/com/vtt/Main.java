@@ -1,6 +1,7 @@
 package com.vtt;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Orientation;
 import javafx.scene.Scene;
@@ -8,37 +9,40 @@ import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.*;
 import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
+import javafx.scene.input.DragEvent;
+import javafx.scene.input.Dragboard;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.input.TransferMode;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
-import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.rendering.PDFRenderer;
-import org.apache.pdfbox.Loader;
-
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.File;
-import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import javax.imageio.ImageIO;
+import java.util.Random;
 
 public class Main extends Application {
 
+    // Taken when Main is first initialized, i.e. just before launch()
+    private static final long LAUNCH_NANOS = System.nanoTime();
+
     // Battlemap settings
     private static final int GRID_SIZE = 40;
     private static final int CANVAS_WIDTH = 800;
     private static final int CANVAS_HEIGHT = 600;
     private static final int SIDEBAR_WIDTH = 150;
+    private static final double STAT_BLOCK_MAX_WIDTH = 240;
+    private static final double STAT_BLOCK_MAX_HEIGHT = 320;
+    private static final int DEFAULT_MAX_HP = 10;
+    private static final int GRID_COLUMNS = CANVAS_WIDTH / GRID_SIZE;
+    private static final int GRID_ROWS = CANVAS_HEIGHT / GRID_SIZE;
 
     private Canvas canvas;
     private GraphicsContext gc;
@@ -55,23 +59,41 @@ public class Main extends Application {
     private boolean isDragging = false;
     private boolean isShifting = false;
 
-    // PDF Viewer Components
-    private VBox pdfPanel;
-    private ScrollPane pdfScrollPane;
-    private ImageView pdfImageView;
-    private Label pdfStatusLabel;
-    private Button prevPageButton, nextPageButton;
-    private Label pageInfoLabel;
-    private TextField searchField;
-    private Button searchButton;
-
-    // PDF State
-
-    private PDDocument currentPdfDocument;
-    private PDFRenderer pdfRenderer;
-    private int currentPage = 0;
-    private int totalPages = 0;
-    private String currentPdfName = "";
+    // Pointer state, read by renderFrame() once per pulse
+    private double pointerX, pointerY;
+    private int hoverGridX = -1, hoverGridY = -1;
+    private RenderScheduler renderScheduler;
+
+    // Stat block overlays are only drawn for these two tokens
+    private Token hoveredToken = null;
+    private Token selectedToken = null;
+
+    // Combat state
+    private final CombatTracker combatTracker = new CombatTracker();
+    private final Random initiativeDice = new Random();
+    private ListView<Token> initiativeList;
+    private boolean updatingInitiativeList = false;
+    private Label roundLabel;
+    private Spinner<Integer> initiativeSpinner;
+    private Spinner<Integer> maxHpSpinner;
+    private Spinner<Integer> hpAmountSpinner;
+    private ComboBox<Condition> conditionBox;
+
+    // Area-of-effect template state
+    private AreaTemplate areaTemplate = null;
+    private boolean templatePinned = false;
+    private boolean templateDragging = false;
+    private int templateGrabOffsetX, templateGrabOffsetY;
+    private final long[] templateCoverage = new long[GRID_ROWS];
+    private final OccupancyGrid occupancy = new OccupancyGrid(GRID_COLUMNS, GRID_ROWS);
+    private final List<Token> affectedTokens = new ArrayList<>();
+    private ComboBox<AreaShape> templateShapeBox;
+    private Spinner<Integer> templateSizeSpinner;
+    private Label affectedLabel;
+
+    // PDF viewer, built lazily after the first frame
+    private BorderPane root;
+    private PdfViewerPanel pdfViewer;
 
     // UI Components
     private VBox tokenSelectionPanel;
@@ -79,10 +101,10 @@ public class Main extends Application {
 
     @Override
     public void start(Stage primaryStage) {
-        BorderPane root = new BorderPane();
+        root = new BorderPane();
 
-        pdfPanel = createPdfPanel();
-        root.setLeft(pdfPanel);
+        // The real PDF viewer (and PDFBox) is only loaded once the battlemap is on screen
+        root.setLeft(createPdfPlaceholder());
 
         // Create canvas (center)
         VBox centerPanel = new VBox();
@@ -94,6 +116,7 @@ public class Main extends Application {
         // Canvas
         canvas = new Canvas(CANVAS_WIDTH, CANVAS_HEIGHT);
         gc = canvas.getGraphicsContext2D();
+        renderScheduler = new RenderScheduler(this::renderFrame, this::renderCell, () -> isDragging);
         setupMouseHandlers();
         centerPanel.getChildren().add(canvas);
 
@@ -106,206 +129,83 @@ public class Main extends Application {
         tokens.add(new Token(2, 1, TokenType.PLAYER));
         tokens.add(new Token(5, 3, TokenType.MONSTER));
         tokens.add(new Token(8, 2, TokenType.NPC));
+        occupancy.rebuild(tokens);
 
-        drawBattlemap();
+        renderScheduler.requestFullRender();
 
         Scene scene = new Scene(root, 1350, 850);
         primaryStage.setTitle("VTT");
         primaryStage.setScene(scene);
+        reportFirstFrame(scene);
         primaryStage.show();
     }
 
-    private VBox createPdfPanel() {
-        VBox pdfPanel = new VBox(10);
-        pdfPanel.setPadding(new Insets(10));
-        pdfPanel.setPrefWidth(350);
-        pdfPanel.setStyle("-fx-background-color: #f8f8f8; -fx-border-color: #cccccc; -fx-border-width: 0 1 0 0;");
+    /**
+     * Stands in for the PDF panel during the first frame only; startPdfSubsystem swaps
+     * the real panel in right after it, while PDFBox warms up in the background.
+     */
+    private VBox createPdfPlaceholder() {
+        // Only compile-time constants are read from PdfViewerPanel, so this doesn't load it
+        VBox placeholder = new VBox(10);
+        placeholder.setPadding(new Insets(10));
+        placeholder.setPrefWidth(PdfViewerPanel.PANEL_WIDTH);
+        placeholder.setStyle(PdfViewerPanel.PANEL_STYLE);
 
         Label title = new Label("PDF Viewer");
         title.setFont(Font.font("System", FontWeight.BOLD, 16));
+        Label loadingLabel = new Label("Preparing PDF viewer...");
+        loadingLabel.setStyle("-fx-text-fill: #666666");
 
-        Button loadPdfButton = new Button("Load PDF");
-        loadPdfButton.setOnAction(e -> loadPdfFile());
-
-        pdfStatusLabel = new Label("No PDF Loaded");
-        pdfStatusLabel.setStyle("-fx-text-fill: #666666");
-
-        HBox searchBox = new HBox(5);
-        searchField = new TextField();
-        searchField.setPromptText("Search PDF content...");
-        searchField.setPrefWidth(200);
-        searchButton = new Button("Search");
-        searchButton.setOnAction(e -> searchPdf());
-        searchField.setOnAction(e -> searchPdf());
-
-        searchBox.getChildren().addAll(searchField, searchButton);
-
-        // Page navigation
-        HBox pageControls = new HBox(10);
-        prevPageButton = new Button("◀ Prev");
-        nextPageButton = new Button("Next ▶");
-        pageInfoLabel = new Label("Page: -/-");
-
-        prevPageButton.setOnAction(e -> previousPage());
-        nextPageButton.setOnAction(e -> nextPage());
-
-        pageControls.getChildren().addAll(prevPageButton, pageInfoLabel, nextPageButton);
-
-        // Disable controls initially
-        disablePdfControls();
-
-        // PDF display area
-        pdfImageView = new ImageView();
-        pdfImageView.setPreserveRatio(true);
-        pdfImageView.setFitWidth(330);
-
-        pdfScrollPane = new ScrollPane(pdfImageView);
-        pdfScrollPane.setPrefHeight(400);
-        pdfScrollPane.setStyle("-fx-background-color: white;");
-
-        pdfPanel.getChildren().addAll(
-                title,
-                loadPdfButton,
-                pdfStatusLabel,
-                new Separator(),
-                searchBox,
-                pageControls,
-                pdfScrollPane
-        );
-
-        return pdfPanel;
-    }
-
-    private void loadPdfFile() {
-        FileChooser fileChooser = new FileChooser();
-        fileChooser.setTitle("Select PDF Rulebook");
-        fileChooser.getExtensionFilters().add(
-                new FileChooser.ExtensionFilter("PDF Files", "*.pdf")
-        );
-
-        File selectedFile = fileChooser.showOpenDialog(null);
-        if (selectedFile != null) {
-            try {
-                // Close previous document if open
-                if (currentPdfDocument != null) {
-                    currentPdfDocument.close();
-                }
-
-                // Load new PDF
-                currentPdfDocument = Loader.loadPDF(selectedFile);
-                pdfRenderer = new PDFRenderer(currentPdfDocument);
-                totalPages = currentPdfDocument.getNumberOfPages();
-                currentPage = 0;
-                currentPdfName = selectedFile.getName();
-
-                // Update UI
-                pdfStatusLabel.setText("Loaded: " + currentPdfName);
-                enablePdfControls();
-                displayCurrentPage();
-
-                System.out.println("Loaded PDF: " + currentPdfName + " (" + totalPages + " pages)");
-
-            } catch (IOException e) {
-                showAlert("Error", "Failed to load PDF: " + e.getMessage());
-                e.printStackTrace();
-            }
-        }
-    }
-
-    private void displayCurrentPage() {
-        if (currentPdfDocument == null) return;
-
-        try {
-            // Render the current page
-            BufferedImage bufferedImage = pdfRenderer.renderImageWithDPI(currentPage, 150);
-
-            // Convert BufferedImage to JavaFX Image
-            ByteArrayOutputStream byteOutput = new ByteArrayOutputStream();
-            ImageIO.write(bufferedImage, "png", byteOutput);
-            ByteArrayInputStream byteInput = new ByteArrayInputStream(byteOutput.toByteArray());
-            Image fxImage = new Image(byteInput);
-
-            // Display the image
-            pdfImageView.setImage(fxImage);
-
-            // Update page info
-            pageInfoLabel.setText(String.format("Page: %d/%d", currentPage + 1, totalPages));
-
-            // Update button states
-            prevPageButton.setDisable(currentPage <= 0);
-            nextPageButton.setDisable(currentPage >= totalPages - 1);
-
-        } catch (IOException e) {
-            showAlert("Error", "Failed to display page: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-
-    private void previousPage() {
-        if (currentPage > 0) {
-            currentPage--;
-            displayCurrentPage();
-        }
+        placeholder.getChildren().addAll(title, loadingLabel);
+        return placeholder;
     }
 
-    private void nextPage() {
-        if (currentPage < totalPages - 1) {
-            currentPage++;
-            displayCurrentPage();
-        }
-    }
-
-    private void searchPdf() {
-        String searchText = searchField.getText().trim();
-        if (searchText.isEmpty() || currentPdfDocument == null) {
-            return;
-        }
-
-        try {
-            // Simple search implementation - you could enhance this
-            boolean found = false;
-            for (int pageNum = 1; pageNum < totalPages; pageNum++) {
-                String pageText = currentPdfDocument.getPage(pageNum).getContents().toString();
-                System.out.println(pageText.toString());
-                if (pageText.toLowerCase().contains(searchText.toLowerCase())) {
-                    currentPage = pageNum;
-                    displayCurrentPage();
-                    found = true;
-                    System.out.println("Found '" + searchText + "' on page " + (pageNum + 1));
-                    break;
-                }
+    /**
+     * Logs time-to-first-frame once the first pulse has laid out the scene, then builds
+     * the PDF panel and starts the PDFBox warm-up alongside it.
+     */
+    private void reportFirstFrame(Scene scene) {
+        scene.addPostLayoutPulseListener(new Runnable() {
+            private boolean reported = false;
+
+            @Override
+            public void run() {
+                if (reported) return;
+                reported = true;
+
+                long sinceLaunchMillis = (System.nanoTime() - LAUNCH_NANOS) / 1_000_000;
+                long frameWallMillis = System.currentTimeMillis();
+
+                // Listeners can't be removed while the pulse is iterating over them
+                Platform.runLater(() -> {
+                    scene.removePostLayoutPulseListener(this);
+                    long sinceJvmStartMillis = frameWallMillis - ManagementFactory.getRuntimeMXBean().getStartTime();
+                    System.out.printf("Time to first frame: %d ms since launch, %d ms since JVM start%n",
+                            sinceLaunchMillis, sinceJvmStartMillis);
+                    startPdfSubsystem();
+                });
             }
-
-            if (!found) {
-                showAlert("Search", "Text '" + searchText + "' not found in remaining pages.");
-            }
-
-        } catch (Exception e) {
-            showAlert("Error", "Search failed: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-
-    private void enablePdfControls() {
-        prevPageButton.setDisable(false);
-        nextPageButton.setDisable(false);
-        searchButton.setDisable(false);
-        searchField.setDisable(false);
-    }
-
-    private void disablePdfControls() {
-        prevPageButton.setDisable(true);
-        nextPageButton.setDisable(true);
-        searchButton.setDisable(true);
-        searchField.setDisable(true);
+        });
     }
 
-    private void showAlert(String title, String message) {
-        Alert alert = new Alert(Alert.AlertType.INFORMATION);
-        alert.setTitle(title);
-        alert.setHeaderText(null);
-        alert.setContentText(message);
-        alert.showAndWait();
+    private void startPdfSubsystem() {
+        long started = System.nanoTime();
+
+        // The panel goes in straight away so "Load PDF" never waits on the warm-up
+        pdfViewer = new PdfViewerPanel();
+        root.setLeft(pdfViewer);
+        System.out.printf("PDF viewer ready %d ms after first frame%n",
+                (System.nanoTime() - started) / 1_000_000);
+
+        // Rendering pipeline, font discovery and ImageIO setup are warmed up off the FX thread
+        Thread warmup = new Thread(() -> {
+            long warmupStarted = System.nanoTime();
+            PdfViewerPanel.warmUp();
+            System.out.printf("PDF warm-up finished in %d ms%n", (System.nanoTime() - warmupStarted) / 1_000_000);
+        }, "pdf-warmup");
+        warmup.setDaemon(true);
+        warmup.setPriority(Thread.MIN_PRIORITY);
+        warmup.start();
     }
 
     private Button createNoneSelectedButton() {
@@ -342,14 +242,81 @@ public class Main extends Application {
         VBox panel = new VBox(5);
         panel.setStyle("-fx-padding: 10; -fx-background-color: #f0f0f0;");
 
-        Label instructions = new Label("Left-click: Place token | Drag: Move token | Shift+click: Remove token");
+        Label instructions = new Label("Left-click: Place token | Drag: Move token | Shift+click: Remove token\n"
+                + "Shift+drag on PDF, then drag onto a token: Attach stat block | Right-click token: Clear stat block\n"
+                + "Template: Click to drop | Drag origin (or Alt+drag area): Move | Scroll: Rotate");
         statusLabel = new Label("Current token: " + currentTokenType.getLabel());
         statusLabel.setStyle("-fx-font-weight: bold; -fx-font-size: 14px;");
 
-        panel.getChildren().addAll(instructions, statusLabel);
+        panel.getChildren().addAll(instructions, statusLabel, createTemplateControls());
         return panel;
     }
 
+    private HBox createTemplateControls() {
+        HBox controls = new HBox(10);
+
+        templateShapeBox = new ComboBox<>();
+        templateShapeBox.getItems().addAll(AreaShape.values());
+        templateShapeBox.setPromptText("Template");
+        templateShapeBox.setOnAction(e -> setTemplateShape(templateShapeBox.getValue()));
+
+        templateSizeSpinner = new Spinner<>(AreaTemplate.FEET_PER_CELL,
+                CoverageMask.MAX_SIZE_CELLS * AreaTemplate.FEET_PER_CELL, 20, AreaTemplate.FEET_PER_CELL);
+        templateSizeSpinner.setPrefWidth(80);
+        templateSizeSpinner.valueProperty().addListener((obs, oldSize, newSize) -> {
+            if (areaTemplate != null) {
+                areaTemplate.setSizeFeet(newSize);
+                updateTemplateCoverage();
+                renderScheduler.requestFullRender();
+            }
+        });
+
+        Button rotateButton = new Button("⟳");
+        rotateButton.setOnAction(e -> rotateTemplate(1));
+        Button clearButton = new Button("Clear");
+        clearButton.setOnAction(e -> templateShapeBox.setValue(null));
+
+        affectedLabel = new Label("Affected: -");
+
+        controls.getChildren().addAll(new Label("Template:"), templateShapeBox, templateSizeSpinner,
+                new Label("ft"), rotateButton, clearButton, affectedLabel);
+        return controls;
+    }
+
+    private void setTemplateShape(AreaShape shape) {
+        if (shape == null) {
+            areaTemplate = null;
+            templateDragging = false;
+        } else if (areaTemplate == null) {
+            // A new template follows the pointer until it is clicked into place
+            areaTemplate = new AreaTemplate(shape, templateSizeSpinner.getValue());
+            areaTemplate.setOrigin(Math.max(0, hoverGridX), Math.max(0, hoverGridY));
+            templatePinned = false;
+        } else {
+            areaTemplate.setShape(shape);
+        }
+        updateTemplateCoverage();
+        renderScheduler.requestFullRender();
+    }
+
+    private void rotateTemplate(int steps) {
+        if (areaTemplate != null && areaTemplate.getShape().isDirectional()) {
+            areaTemplate.setDirection(areaTemplate.getDirection() + steps);
+            updateTemplateCoverage();
+            renderScheduler.requestFullRender();
+        }
+    }
+
+    private void moveTemplate(int gridX, int gridY) {
+        int x = Math.max(0, Math.min(GRID_COLUMNS - 1, gridX));
+        int y = Math.max(0, Math.min(GRID_ROWS - 1, gridY));
+        if (x == areaTemplate.getOriginX() && y == areaTemplate.getOriginY()) return;
+
+        areaTemplate.setOrigin(x, y);
+        updateTemplateCoverage();
+        renderScheduler.requestFullRender();
+    }
+
     private VBox createTokenSelectionPanel() {
         VBox panel = new VBox(10);
         panel.setPadding(new Insets(15));
@@ -378,9 +345,183 @@ public class Main extends Application {
         // Set initial selection
         updateButtonSelection();
 
+        panel.getChildren().add(new Separator());
+        panel.getChildren().add(createInitiativePanel());
+
         return panel;
     }
 
+    private VBox createInitiativePanel() {
+        VBox panel = new VBox(5);
+
+        Label title = new Label("Initiative");
+        title.setFont(Font.font("System", FontWeight.BOLD, 16));
+        roundLabel = new Label("Round: -");
+
+        initiativeList = new ListView<>();
+        initiativeList.setPrefHeight(180);
+        initiativeList.setCellFactory(list -> new ListCell<>() {
+            @Override
+            protected void updateItem(Token token, boolean empty) {
+                super.updateItem(token, empty);
+                if (empty || token == null || token.getCombatant() == null) {
+                    setText(null);
+                    return;
+                }
+
+                Combatant combatant = token.getCombatant();
+                String marker = token == combatTracker.getActiveToken() ? "▶ " : "   ";
+                String text = String.format("%s%s %d  %d/%d", marker, token.getType().getLabel(),
+                        combatant.getInitiative(), combatant.getHp(), combatant.getMaxHp());
+                if (!combatant.getConditions().isEmpty()) {
+                    text += "\n   " + combatant.getConditions();
+                }
+                setText(text);
+            }
+        });
+        initiativeList.getSelectionModel().selectedItemProperty().addListener((obs, oldToken, newToken) -> {
+            // Removing or moving the selected row shifts the selection to a neighbour; that is
+            // not the user picking a token
+            if (updatingInitiativeList) return;
+            if (newToken != null && newToken != selectedToken) {
+                setSelectedToken(newToken);
+                renderScheduler.requestFullRender();
+            }
+        });
+
+        // Initiative and max HP used when joining; "Set" re-sorts the selected combatant
+        initiativeSpinner = new Spinner<>(-10, 50, 10);
+        initiativeSpinner.setEditable(true);
+        initiativeSpinner.setPrefWidth(80);
+        maxHpSpinner = new Spinner<>(1, 999, DEFAULT_MAX_HP);
+        maxHpSpinner.setEditable(true);
+        maxHpSpinner.setPrefWidth(80);
+        HBox initiativeInput = new HBox(5, new Label("Init"), initiativeSpinner);
+        HBox maxHpInput = new HBox(5, new Label("HP"), maxHpSpinner);
+
+        Button rollButton = new Button("Roll d20");
+        rollButton.setOnAction(e -> initiativeSpinner.getValueFactory().setValue(initiativeDice.nextInt(20) + 1));
+        Button setInitiativeButton = new Button("Set");
+        setInitiativeButton.setOnAction(e -> {
+            if (selectedToken != null) combatTracker.setInitiative(selectedToken, initiativeSpinner.getValue());
+        });
+        HBox initiativeControls = new HBox(5, rollButton, setInitiativeButton);
+
+        Button joinButton = new Button("Join");
+        joinButton.setOnAction(e -> joinCombat());
+        Button leaveButton = new Button("Leave");
+        leaveButton.setOnAction(e -> {
+            if (selectedToken != null) combatTracker.leave(selectedToken);
+        });
+        HBox membershipControls = new HBox(5, joinButton, leaveButton);
+
+        Button nextTurnButton = new Button("Next turn ▶");
+        nextTurnButton.setPrefWidth(SIDEBAR_WIDTH - 30);
+        nextTurnButton.setOnAction(e -> combatTracker.nextTurn());
+
+        hpAmountSpinner = new Spinner<>(1, 999, 5);
+        hpAmountSpinner.setEditable(true);
+        hpAmountSpinner.setPrefWidth(SIDEBAR_WIDTH - 30);
+        Button damageButton = new Button("Dmg");
+        damageButton.setOnAction(e -> changeSelectedHp(-hpAmountSpinner.getValue()));
+        Button healButton = new Button("Heal");
+        healButton.setOnAction(e -> changeSelectedHp(hpAmountSpinner.getValue()));
+        HBox hpControls = new HBox(5, damageButton, healButton);
+
+        conditionBox = new ComboBox<>();
+        conditionBox.getItems().addAll(Condition.values());
+        conditionBox.setPromptText("Condition");
+        conditionBox.setPrefWidth(SIDEBAR_WIDTH - 30);
+        conditionBox.setOnAction(e -> {
+            Condition condition = conditionBox.getValue();
+            if (condition != null && selectedToken != null) {
+                combatTracker.toggleCondition(selectedToken, condition);
+                // Reset so picking the same condition again toggles it back off
+                Platform.runLater(() -> conditionBox.getSelectionModel().clearSelection());
+            }
+        });
+
+        // Only what changed gets refreshed: list rows via set(), map cells via requestCellRender()
+        combatTracker.getEvents().subscribe(this::onCombatEvent);
+
+        panel.getChildren().addAll(title, roundLabel, initiativeList, initiativeInput, maxHpInput,
+                initiativeControls, membershipControls,
+                nextTurnButton, hpAmountSpinner, hpControls, conditionBox);
+        return panel;
+    }
+
+    private void joinCombat() {
+        if (selectedToken == null || combatTracker.isInCombat(selectedToken)) return;
+
+        int initiative = initiativeSpinner.getValue();
+        int maxHp = maxHpSpinner.getValue();
+        combatTracker.join(selectedToken, initiative, maxHp);
+        System.out.printf("%s token joined combat with initiative %d and %d HP%n",
+                selectedToken.getType().name(), initiative, maxHp);
+    }
+
+    private void changeSelectedHp(int delta) {
+        if (selectedToken != null) {
+            combatTracker.changeHp(selectedToken, delta);
+        }
+    }
+
+    private void onCombatEvent(CombatEvent event) {
+        updatingInitiativeList = true;
+        try {
+            updateInitiativeList(event);
+
+            // Whatever the edit did to the list's selection, it follows the map's again
+            if (selectedToken != null && initiativeList.getItems().contains(selectedToken)) {
+                initiativeList.getSelectionModel().select(selectedToken);
+            } else {
+                initiativeList.getSelectionModel().clearSelection();
+            }
+        } finally {
+            updatingInitiativeList = false;
+        }
+
+        roundLabel.setText(combatTracker.getRound() > 0 ? "Round: " + combatTracker.getRound() : "Round: -");
+
+        for (Token token : event.getTokens()) {
+            if (tokens.contains(token)) {
+                renderScheduler.requestCellRender(token.getGridX(), token.getGridY());
+            }
+        }
+    }
+
+    private void updateInitiativeList(CombatEvent event) {
+        if (event.getType() == CombatEvent.Type.JOINED) {
+            initiativeList.getItems().add(event.getIndex(), event.getTokens().get(0));
+        } else if (event.getType() == CombatEvent.Type.LEFT) {
+            initiativeList.getItems().remove(event.getIndex());
+        } else if (event.getType() == CombatEvent.Type.REORDERED) {
+            Token token = event.getTokens().get(0);
+            initiativeList.getItems().remove(token);
+            initiativeList.getItems().add(event.getIndex(), token);
+        } else {
+            // Replacing an item with itself re-renders just that row
+            for (Token token : event.getTokens()) {
+                int index = initiativeList.getItems().indexOf(token);
+                if (index >= 0) {
+                    initiativeList.getItems().set(index, token);
+                }
+            }
+        }
+    }
+
+    private void setSelectedToken(Token token) {
+        if (selectedToken == token) return;
+        selectedToken = token;
+
+        if (token != null && combatTracker.isInCombat(token)) {
+            initiativeList.getSelectionModel().select(token);
+            initiativeSpinner.getValueFactory().setValue(token.getCombatant().getInitiative());
+        } else {
+            initiativeList.getSelectionModel().clearSelection();
+        }
+    }
+
     private Button createTokenTypeButton(TokenType tokenType) {
         Button button = new Button();
         button.setPrefWidth(SIDEBAR_WIDTH - 30);
@@ -439,24 +580,75 @@ public class Main extends Application {
         canvas.setOnMouseDragged(this::onMouseDragged);
         canvas.setOnMouseReleased(this::onMouseReleased);
         canvas.setOnMouseMoved(this::onMouseMoved);
+        canvas.setOnMouseExited(this::onMouseExited);
+        canvas.setOnDragOver(this::onExcerptDragOver);
+        canvas.setOnDragDropped(this::onExcerptDropped);
+        canvas.setOnScroll(this::onScroll);
+    }
+
+    private void onScroll(ScrollEvent event) {
+        if (areaTemplate != null && event.getDeltaY() != 0) {
+            rotateTemplate(event.getDeltaY() > 0 ? 1 : -1);
+            event.consume();
+        }
     }
 
     private void onMousePressed(MouseEvent event) {
         int gridX = (int) (event.getX() / GRID_SIZE);
         int gridY = (int) (event.getY() / GRID_SIZE);
+        pointerX = event.getX();
+        pointerY = event.getY();
+
+        // A template still following the pointer is dropped by any left-click. Once pinned,
+        // only its origin (or Alt + its area) picks it up, and it keeps its offset from the
+        // pointer; every other press, including one on a covered token, reaches the tokens
+        if (areaTemplate != null && event.getButton() == MouseButton.PRIMARY && !event.isShiftDown()) {
+            if (!templatePinned) {
+                templateDragging = true;
+                templateGrabOffsetX = 0;
+                templateGrabOffsetY = 0;
+                moveTemplate(gridX, gridY);
+                return;
+            }
+            if (isTemplateHandle(gridX, gridY, event.isAltDown())) {
+                templateDragging = true;
+                templateGrabOffsetX = areaTemplate.getOriginX() - gridX;
+                templateGrabOffsetY = areaTemplate.getOriginY() - gridY;
+                return;
+            }
+        }
 
         // Check if we're clicking on an existing token
         Token clickedToken = getTokenAt(gridX, gridY);
 
+        // Clicking empty space deselects (and hides the selected stat block)
+        if (clickedToken == null && event.getButton() == MouseButton.PRIMARY && selectedToken != null) {
+            setSelectedToken(null);
+            renderScheduler.requestFullRender();
+        }
+
         if (event.isShiftDown() && clickedToken != null) {
             // Shift + click: Remove token
             tokens.remove(clickedToken);
+            occupancy.remove(clickedToken);
+            updateTemplateCoverage();
+            combatTracker.leave(clickedToken);
+            if (hoveredToken == clickedToken) hoveredToken = null;
+            if (selectedToken == clickedToken) setSelectedToken(null);
             System.out.printf("Removed %s token from (%d, %d)%n",
                     clickedToken.getType().name(), gridX, gridY);
             isShifting = true;
-            drawBattlemap();
+            renderScheduler.requestFullRender();
+        } else if (clickedToken != null && event.getButton() == MouseButton.SECONDARY
+                && clickedToken.getStatBlock() != null) {
+            // Right-click: Detach stat block
+            clickedToken.setStatBlock(null);
+            System.out.printf("Cleared stat block from %s token at (%d, %d)%n",
+                    clickedToken.getType().name(), gridX, gridY);
+            renderScheduler.requestFullRender();
         } else if (clickedToken != null && event.getButton() == MouseButton.PRIMARY) {
             // Start dragging existing token
+            setSelectedToken(clickedToken);
             draggedToken = clickedToken;
             dragStartX = event.getX();
             dragStartY = event.getY();
@@ -474,15 +666,23 @@ public class Main extends Application {
     }
 
     private void onMouseDragged(MouseEvent event) {
-        if (isDragging && draggedToken != null) {
-            // Redraw battlemap with dragged token
-            drawBattlemap();
-            drawDraggedToken(event.getX(), event.getY());
+        if (templateDragging) {
+            moveTemplate((int) (event.getX() / GRID_SIZE) + templateGrabOffsetX,
+                    (int) (event.getY() / GRID_SIZE) + templateGrabOffsetY);
+        } else if (isDragging && draggedToken != null) {
+            // The dragged token follows the pointer; the next pulse draws it
+            pointerX = event.getX();
+            pointerY = event.getY();
+            renderScheduler.requestFullRender();
         }
     }
 
     private void onMouseReleased(MouseEvent event) {
-        if (isDragging && draggedToken != null) {
+        if (templateDragging) {
+            templateDragging = false;
+            templatePinned = true;
+            System.out.printf("Placed %s template: %d token(s) affected%n", areaTemplate, affectedTokens.size());
+        } else if (isDragging && draggedToken != null) {
             int newGridX = (int) (event.getX() / GRID_SIZE);
             int newGridY = (int) (event.getY() / GRID_SIZE);
 
@@ -496,6 +696,8 @@ public class Main extends Application {
                 int oldY = draggedToken.getGridY();
                 draggedToken.setGridX(newGridX);
                 draggedToken.setGridY(newGridY);
+                occupancy.move(draggedToken, oldX, oldY);
+                updateTemplateCoverage();
 
                 System.out.printf("Moved %s token from (%d, %d) to (%d, %d)%n",
                         draggedToken.getType().name(), oldX, oldY, newGridX, newGridY);
@@ -506,7 +708,10 @@ public class Main extends Application {
             // Reset drag state
             draggedToken = null;
             isDragging = false;
-            drawBattlemap();
+            hoverGridX = newGridX;
+            hoverGridY = newGridY;
+            hoveredToken = getTokenAt(newGridX, newGridY);
+            renderScheduler.requestFullRender();
         } else if (!isDragging && currentTokenType != null) {
             // Regular click - place new token
             int gridX = (int) (event.getX() / GRID_SIZE);
@@ -521,9 +726,11 @@ public class Main extends Application {
 
                 Token newToken = new Token(gridX, gridY, currentTokenType);
                 tokens.add(newToken);
+                occupancy.add(newToken);
+                updateTemplateCoverage();
                 System.out.printf("Placed %s token at (%d, %d)%n",
                         currentTokenType.name(), gridX, gridY);
-                drawBattlemap();
+                renderScheduler.requestFullRender();
             }
         }
     }
@@ -533,17 +740,60 @@ public class Main extends Application {
             int gridX = (int) (event.getX() / GRID_SIZE);
             int gridY = (int) (event.getY() / GRID_SIZE);
 
-            drawBattlemap();
+            // Moves within the same cell change nothing on screen
+            if (gridX == hoverGridX && gridY == hoverGridY) return;
 
-            // Show preview only if no token exists at this location
-            if (currentTokenType != null &&
-                    gridX >= 0 && gridX < CANVAS_WIDTH / GRID_SIZE &&
-                    gridY >= 0 && gridY < CANVAS_HEIGHT / GRID_SIZE &&
-                    !hasTokenAt(gridX, gridY)) {
+            hoverGridX = gridX;
+            hoverGridY = gridY;
+            hoveredToken = getTokenAt(gridX, gridY);
+            if (areaTemplate != null && !templatePinned) {
+                moveTemplate(gridX, gridY);
+            }
+            renderScheduler.requestFullRender();
+        }
+    }
+
+    private void onMouseExited(MouseEvent event) {
+        hoverGridX = -1;
+        hoverGridY = -1;
+        hoveredToken = null;
+        renderScheduler.requestFullRender();
+    }
+
+    private boolean isExcerptDrag(Dragboard dragboard) {
+        return dragboard.hasString() && PdfPageView.EXCERPT_DRAG_KEY.equals(dragboard.getString())
+                && pdfViewer != null && pdfViewer.getExcerpt() != null;
+    }
 
-                drawPreviewToken(gridX, gridY);
+    private void onExcerptDragOver(DragEvent event) {
+        if (isExcerptDrag(event.getDragboard())) {
+            event.acceptTransferModes(TransferMode.COPY);
+        }
+        event.consume();
+    }
+
+    private void onExcerptDropped(DragEvent event) {
+        boolean attached = false;
+
+        if (isExcerptDrag(event.getDragboard())) {
+            int gridX = (int) (event.getX() / GRID_SIZE);
+            int gridY = (int) (event.getY() / GRID_SIZE);
+            Token target = getTokenAt(gridX, gridY);
+
+            if (target != null) {
+                target.setStatBlock(pdfViewer.getExcerpt());
+                setSelectedToken(target);
+                attached = true;
+                System.out.printf("Attached stat block to %s token at (%d, %d)%n",
+                        target.getType().name(), gridX, gridY);
+                renderScheduler.requestFullRender();
+            } else {
+                System.out.println("Drop the excerpt onto a token to attach it");
             }
         }
+
+        event.setDropCompleted(attached);
+        event.consume();
     }
 
     private void drawDraggedToken(double mouseX, double mouseY) {
@@ -592,12 +842,47 @@ public class Main extends Application {
         }
     }
 
+    /**
+     * Draws one complete frame from current state. Only called by the render scheduler,
+     * at most once per pulse.
+     */
+    private void renderFrame() {
+        drawBattlemap();
+
+        if (isDragging && draggedToken != null) {
+            drawDraggedToken(pointerX, pointerY);
+        } else if (isPreviewCell(hoverGridX, hoverGridY)) {
+            drawPreviewToken(hoverGridX, hoverGridY);
+        }
+    }
+
+    /**
+     * Repaints one cell. The scheduler never calls this while dragging, since the drag
+     * overlay can span cells and only {@link #renderFrame()} draws it.
+     */
+    private void renderCell(int gridX, int gridY) {
+        redrawCell(gridX, gridY);
+        if (gridX == hoverGridX && gridY == hoverGridY && isPreviewCell(gridX, gridY)) {
+            drawPreviewToken(gridX, gridY);
+        }
+    }
+
+    // Show preview only if no token exists at this location
+    private boolean isPreviewCell(int gridX, int gridY) {
+        return currentTokenType != null &&
+                (areaTemplate == null || templatePinned && !isTemplateOrigin(gridX, gridY)) &&
+                gridX >= 0 && gridX < CANVAS_WIDTH / GRID_SIZE &&
+                gridY >= 0 && gridY < CANVAS_HEIGHT / GRID_SIZE &&
+                !hasTokenAt(gridX, gridY);
+    }
+
     private void drawBattlemap() {
         gc.clearRect(0, 0, CANVAS_WIDTH, CANVAS_HEIGHT);
         gc.setFill(Color.LIGHTGRAY);
         gc.fillRect(0, 0, CANVAS_WIDTH, CANVAS_HEIGHT);
 
         drawGrid();
+        drawTemplateCells();
 
         // Draw all tokens except the one being dragged
         for (Token token : tokens) {
@@ -605,6 +890,150 @@ public class Main extends Application {
                 drawToken(token);
             }
         }
+
+        for (Token token : affectedTokens) {
+            if (token != draggedToken) {
+                drawAffectedRing(token);
+            }
+        }
+
+        // Stat blocks are never drawn per token, only for the hovered/selected one
+        drawStatBlock(selectedToken);
+        if (hoveredToken != selectedToken) {
+            drawStatBlock(hoveredToken);
+        }
+    }
+
+    /**
+     * Repaints a single grid cell in place, for changes (turns, HP, conditions) that
+     * can't affect anything outside the token's own square.
+     */
+    private void redrawCell(int gridX, int gridY) {
+        double x = gridX * GRID_SIZE;
+        double y = gridY * GRID_SIZE;
+
+        gc.save();
+        gc.beginPath();
+        gc.rect(x, y, GRID_SIZE, GRID_SIZE);
+        gc.clip();
+
+        gc.setFill(Color.LIGHTGRAY);
+        gc.fillRect(x, y, GRID_SIZE, GRID_SIZE);
+        gc.setStroke(Color.BLACK);
+        gc.setLineWidth(1);
+        gc.strokeRect(x, y, GRID_SIZE, GRID_SIZE);
+        drawTemplateCells();
+
+        Token token = getTokenAt(gridX, gridY);
+        if (token != null && token != draggedToken) {
+            drawToken(token);
+            if (isTemplateCovered(gridX, gridY)) {
+                drawAffectedRing(token);
+            }
+        }
+
+        // A stat block card may cover this cell; repaint its clipped part on top
+        drawStatBlock(selectedToken);
+        if (hoveredToken != selectedToken) {
+            drawStatBlock(hoveredToken);
+        }
+
+        gc.restore();
+    }
+
+    /**
+     * Shifts the template's cached mask into place and ANDs it with token occupancy, row
+     * by row. Called whenever the template or a token changes, never while drawing; the
+     * draw routines only read the result.
+     */
+    private void updateTemplateCoverage() {
+        affectedTokens.clear();
+
+        if (areaTemplate == null) {
+            Arrays.fill(templateCoverage, 0L);
+        } else {
+            areaTemplate.fillCoverage(templateCoverage, GRID_COLUMNS);
+            occupancy.collectCovered(templateCoverage, affectedTokens);
+        }
+
+        String text = areaTemplate == null ? "Affected: -" : "Affected: " + affectedTokens.size();
+        if (!text.equals(affectedLabel.getText())) {
+            affectedLabel.setText(text);
+        }
+    }
+
+    /**
+     * Whether a press here picks up the pinned template: its origin cell unless a token
+     * sits there, or with Alt held anywhere on it.
+     */
+    private boolean isTemplateHandle(int gridX, int gridY, boolean altDown) {
+        if (altDown) {
+            return isTemplateOrigin(gridX, gridY) || isTemplateCovered(gridX, gridY);
+        }
+        return isTemplateOrigin(gridX, gridY) && !hasTokenAt(gridX, gridY);
+    }
+
+    private boolean isTemplateOrigin(int gridX, int gridY) {
+        return areaTemplate != null && gridX == areaTemplate.getOriginX() && gridY == areaTemplate.getOriginY();
+    }
+
+    private boolean isTemplateCovered(int gridX, int gridY) {
+        return gridY >= 0 && gridY < GRID_ROWS && gridX >= 0 && gridX < GRID_COLUMNS
+                && (templateCoverage[gridY] & (1L << gridX)) != 0;
+    }
+
+    private void drawTemplateCells() {
+        if (areaTemplate == null) return;
+
+        gc.setFill(Color.color(1.0, 0.55, 0.0, 0.35));
+        for (int y = 0; y < GRID_ROWS; y++) {
+            long row = templateCoverage[y];
+            while (row != 0) {
+                int x = Long.numberOfTrailingZeros(row);
+                gc.fillRect(x * GRID_SIZE, y * GRID_SIZE, GRID_SIZE, GRID_SIZE);
+                row &= row - 1;
+            }
+        }
+
+        // Mark the point of origin
+        gc.setStroke(Color.DARKORANGE);
+        gc.setLineWidth(2);
+        gc.strokeRect(areaTemplate.getOriginX() * GRID_SIZE + 2, areaTemplate.getOriginY() * GRID_SIZE + 2,
+                GRID_SIZE - 4, GRID_SIZE - 4);
+    }
+
+    private void drawAffectedRing(Token token) {
+        double centerX = token.getGridX() * GRID_SIZE + GRID_SIZE / 2.0;
+        double centerY = token.getGridY() * GRID_SIZE + GRID_SIZE / 2.0;
+
+        gc.setStroke(Color.ORANGERED);
+        gc.setLineWidth(2);
+        gc.strokeOval(centerX - 17, centerY - 17, 34, 34);
+    }
+
+    private void drawStatBlock(Token token) {
+        if (token == null || token == draggedToken || token.getStatBlock() == null) return;
+
+        Image statBlock = token.getStatBlock();
+        double scale = Math.min(1.0, Math.min(STAT_BLOCK_MAX_WIDTH / statBlock.getWidth(),
+                STAT_BLOCK_MAX_HEIGHT / statBlock.getHeight()));
+        double width = statBlock.getWidth() * scale;
+        double height = statBlock.getHeight() * scale;
+
+        // Place the card to the right of the token, flipping/clamping to stay on the canvas
+        double cardX = (token.getGridX() + 1) * GRID_SIZE + 4;
+        if (cardX + width > CANVAS_WIDTH) {
+            cardX = token.getGridX() * GRID_SIZE - width - 4;
+        }
+        cardX = Math.max(0, cardX);
+        double cardY = Math.max(0, Math.min(CANVAS_HEIGHT - height, token.getGridY() * GRID_SIZE));
+
+        gc.setFill(Color.color(0, 0, 0, 0.25));
+        gc.fillRect(cardX + 3, cardY + 3, width, height);
+        gc.drawImage(statBlock, cardX, cardY, width, height);
+        gc.setStroke(token.getType().getColor().darker());
+        gc.setLineWidth(2);
+        gc.strokeRect(cardX, cardY, width, height);
     }
 
     private void drawGrid() {
@@ -646,6 +1075,37 @@ public class Main extends Application {
         gc.setFill(Color.WHITE);
         gc.setFont(Font.font(12));
         gc.fillText(token.getType().getLabel(), centerX - 4, centerY + 4);
+
+        Combatant combatant = token.getCombatant();
+        if (combatant != null) {
+            drawCombatState(token, combatant, pixelX, pixelY, centerX, centerY);
+        }
+    }
+
+    private void drawCombatState(Token token, Combatant combatant, double pixelX, double pixelY,
+                                 double centerX, double centerY) {
+        // Ring around whoever's turn it is
+        if (token == combatTracker.getActiveToken()) {
+            gc.setStroke(Color.GOLD);
+            gc.setLineWidth(3);
+            gc.strokeOval(centerX - 18, centerY - 18, 36, 36);
+        }
+
+        // HP bar along the bottom of the cell
+        double hpFraction = (double) combatant.getHp() / combatant.getMaxHp();
+        gc.setFill(Color.DARKRED);
+        gc.fillRect(pixelX + 5, pixelY + GRID_SIZE - 5, GRID_SIZE - 10, 3);
+        gc.setFill(hpFraction > 0.5 ? Color.LIMEGREEN : hpFraction > 0.25 ? Color.ORANGE : Color.RED);
+        gc.fillRect(pixelX + 5, pixelY + GRID_SIZE - 5, (GRID_SIZE - 10) * hpFraction, 3);
+
+        // One dot per condition in the top-right corner
+        if (!combatant.getConditions().isEmpty()) {
+            gc.setFill(Color.PURPLE);
+            int dots = Math.min(3, combatant.getConditions().size());
+            for (int i = 0; i < dots; i++) {
+                gc.fillOval(pixelX + GRID_SIZE - 8 - i * 6, pixelY + 3, 5, 5);
+            }
+        }
     }
 
     private void drawPreviewToken(int gridX, int gridY) {
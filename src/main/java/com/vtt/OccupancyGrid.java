@@ -0,0 +1,80 @@
+package com.vtt;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Token occupancy as one bitmask per grid row, plus a cell-indexed token lookup, so a
+ * coverage mask can be intersected with every token on the map a row at a time.
+ * Kept up to date as tokens are placed, moved and removed.
+ */
+public class OccupancyGrid {
+    private final int columns;
+    private final long[] occupied;
+    private final Token[] cells;
+
+    public OccupancyGrid(int columns, int rows) {
+        if (columns > 64) {
+            throw new IllegalArgumentException("At most 64 columns fit in a row mask, got " + columns);
+        }
+        this.columns = columns;
+        this.occupied = new long[rows];
+        this.cells = new Token[columns * rows];
+    }
+
+    public void rebuild(List<Token> tokens) {
+        Arrays.fill(occupied, 0L);
+        Arrays.fill(cells, null);
+
+        for (Token token : tokens) {
+            add(token);
+        }
+    }
+
+    public void add(Token token) {
+        int x = token.getGridX();
+        int y = token.getGridY();
+        if (contains(x, y)) {
+            occupied[y] |= 1L << x;
+            cells[y * columns + x] = token;
+        }
+    }
+
+    public void remove(Token token) {
+        clear(token, token.getGridX(), token.getGridY());
+    }
+
+    /**
+     * Re-indexes a token whose position has already been changed from
+     * ({@code fromX}, {@code fromY}).
+     */
+    public void move(Token token, int fromX, int fromY) {
+        clear(token, fromX, fromY);
+        add(token);
+    }
+
+    private void clear(Token token, int x, int y) {
+        if (contains(x, y) && cells[y * columns + x] == token) {
+            occupied[y] &= ~(1L << x);
+            cells[y * columns + x] = null;
+        }
+    }
+
+    private boolean contains(int x, int y) {
+        return x >= 0 && x < columns && y >= 0 && y < occupied.length;
+    }
+
+    /**
+     * Adds every token sitting on a covered cell to {@code result}.
+     */
+    public void collectCovered(long[] coverage, List<Token> result) {
+        for (int y = 0; y < occupied.length; y++) {
+            long hits = coverage[y] & occupied[y];
+            while (hits != 0) {
+                int x = Long.numberOfTrailingZeros(hits);
+                result.add(cells[y * columns + x]);
+                hits &= hits - 1;
+            }
+        }
+    }
+}
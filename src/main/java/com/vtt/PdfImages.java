@@ -0,0 +1,31 @@
+package com.vtt;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Helpers for moving PDFBox rasters into JavaFX.
+ */
+final class PdfImages {
+
+    private PdfImages() {
+    }
+
+    /**
+     * Copies the pixels of a rendered page (or tile) straight into a JavaFX image.
+     * Safe to call off the FX thread; avoids the PNG encode/decode round trip.
+     */
+    static Image toFxImage(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+        WritableImage fxImage = new WritableImage(width, height);
+        fxImage.getPixelWriter().setPixels(0, 0, width, height,
+                PixelFormat.getIntArgbInstance(), pixels, 0, width);
+        return fxImage;
+    }
+}
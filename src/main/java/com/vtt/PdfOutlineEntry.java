@@ -0,0 +1,23 @@
+package com.vtt;
+
+/**
+ * One bookmark from a PDF outline. The page index is -1 when the bookmark has no
+ * resolvable destination (e.g. it points at a URL or a named action).
+ */
+public class PdfOutlineEntry {
+    private final String title;
+    private final int pageIndex;
+
+    public PdfOutlineEntry(String title, int pageIndex) {
+        this.title = title;
+        this.pageIndex = pageIndex;
+    }
+
+    public String getTitle() { return title; }
+    public int getPageIndex() { return pageIndex; }
+
+    @Override
+    public String toString() {
+        return pageIndex >= 0 ? String.format("%s (p. %d)", title, pageIndex + 1) : title;
+    }
+}
@@ -0,0 +1,641 @@
+package com.vtt;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.input.ClipboardContent;
+import javafx.scene.input.Dragboard;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.input.TransferMode;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.stage.Screen;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.PDFRenderer;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Zoomable PDF page display backed by tiled rendering.
+ *
+ * A low-DPI preview of the whole page is shown immediately and stretched to the
+ * current zoom; only the tiles intersecting the viewport are then rasterized at the
+ * DPI matching the zoom and laid over it as they finish. All PDFBox work happens on a
+ * single background thread because a PDDocument is not safe for concurrent use.
+ *
+ * Shift + drag selects a region of the page. The excerpt is cut from the tiles that
+ * are already on screen (no re-render) and the selection can then be dragged out of
+ * the view; drop targets recognise it by {@link #EXCERPT_DRAG_KEY}.
+ */
+public class PdfPageView extends ScrollPane {
+
+    public static final String EXCERPT_DRAG_KEY = "vtt/pdf-excerpt";
+
+    // Tile and zoom settings
+    private static final int TILE_SIZE = 256;
+    private static final float PREVIEW_DPI = 48;
+    private static final double ZOOM_STEP = 1.25;
+    private static final int MAX_ZOOM_LEVEL = 8;
+    private static final int MAX_CACHED_TILES = 160;
+
+    private final double fitWidth;
+    private final Pane content = new Pane();
+    private final ImageView previewView = new ImageView();
+    private final Pane tileLayer = new Pane();
+
+    private final ExecutorService renderExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "pdf-tile-renderer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicInteger queuedRenders = new AtomicInteger();
+
+    // Tile state (FX thread only, except wantedTiles which the render thread reads)
+    private final Map<TileKey, Image> tileCache = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<TileKey, ImageView> shownTiles = new HashMap<>();
+    private final Set<TileKey> pendingTiles = new HashSet<>();
+    private final Set<TileKey> wantedTiles = ConcurrentHashMap.newKeySet();
+
+    // Document state
+    private PDDocument document;
+    private PDFRenderer renderer;
+    private int pageIndex = -1;
+    private double pageWidth, pageHeight;
+    private int zoomLevel = 0;
+    private long documentGeneration = 0;
+    private final ReadOnlyDoubleWrapper zoom = new ReadOnlyDoubleWrapper(1.0);
+
+    // Region capture state
+    private final Rectangle selectionRect = new Rectangle();
+    private double selectionStartX, selectionStartY;
+    private boolean selecting = false;
+    private Image excerpt;
+
+    public PdfPageView(double fitWidth) {
+        this.fitWidth = fitWidth;
+
+        previewView.setSmooth(true);
+        selectionRect.setFill(Color.color(0.12, 0.56, 1.0, 0.15));
+        selectionRect.setStroke(Color.DODGERBLUE);
+        selectionRect.getStrokeDashArray().addAll(4d, 4d);
+        selectionRect.setVisible(false);
+        selectionRect.setOnDragDetected(this::onExcerptDragDetected);
+        // Once drag-and-drop starts the release goes to the drop target, not to us
+        selectionRect.setOnDragDone(event -> setPannable(true));
+
+        content.getChildren().addAll(previewView, tileLayer, selectionRect);
+        setContent(content);
+        setPannable(true);
+        setupSelectionHandlers();
+
+        hvalueProperty().addListener((obs, oldValue, newValue) -> updateVisibleTiles());
+        vvalueProperty().addListener((obs, oldValue, newValue) -> updateVisibleTiles());
+        viewportBoundsProperty().addListener((obs, oldValue, newValue) -> updateVisibleTiles());
+
+        // Ctrl + scroll zooms around the mouse, plain scroll still scrolls
+        addEventFilter(ScrollEvent.SCROLL, event -> {
+            if (event.isControlDown() && renderer != null) {
+                int newLevel = zoomLevel + (event.getDeltaY() > 0 ? 1 : -1);
+                setZoomLevel(newLevel, event.getX(), event.getY());
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * Switches to a new document. Any previous document is closed on the render thread
+     * once the work already queued against it has finished.
+     */
+    public void setDocument(PDDocument newDocument) {
+        PDDocument previous = document;
+        document = newDocument;
+        renderer = newDocument != null ? new PDFRenderer(newDocument) : null;
+        documentGeneration++;
+        pageIndex = -1;
+        pageWidth = 0;
+        pageHeight = 0;
+        zoomLevel = 0;
+        zoom.set(1.0);
+
+        clearTiles();
+        tileCache.clear();
+        previewView.setImage(null);
+
+        if (previous != null) {
+            submitRender(() -> {
+                try {
+                    previous.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            });
+        }
+    }
+
+    public void showPage(int newPageIndex) {
+        if (renderer == null) return;
+
+        pageIndex = newPageIndex;
+        // Unknown until the preview arrives; keeps selection and tile requests off until then
+        pageWidth = 0;
+        pageHeight = 0;
+        clearTiles();
+        previewView.setImage(null);
+
+        PDDocument pageDocument = document;
+        PDFRenderer pageRenderer = renderer;
+        long generation = documentGeneration;
+        submitRender(() -> {
+            try {
+                PDPage page = pageDocument.getPage(newPageIndex);
+                PDRectangle cropBox = page.getCropBox();
+                boolean rotated = page.getRotation() % 180 != 0;
+                double width = rotated ? cropBox.getHeight() : cropBox.getWidth();
+                double height = rotated ? cropBox.getWidth() : cropBox.getHeight();
+
+                Image preview = PdfImages.toFxImage(pageRenderer.renderImageWithDPI(newPageIndex, PREVIEW_DPI));
+
+                Platform.runLater(() -> {
+                    if (generation != documentGeneration || newPageIndex != pageIndex) return;
+                    pageWidth = width;
+                    pageHeight = height;
+                    previewView.setImage(preview);
+                    layoutPage();
+                    setHvalue(getHmin());
+                    setVvalue(getVmin());
+                    updateVisibleTiles();
+                });
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    public void zoomIn() {
+        setZoomLevel(zoomLevel + 1);
+    }
+
+    public void zoomOut() {
+        setZoomLevel(zoomLevel - 1);
+    }
+
+    public void resetZoom() {
+        setZoomLevel(0);
+    }
+
+    public ReadOnlyDoubleProperty zoomProperty() {
+        return zoom.getReadOnlyProperty();
+    }
+
+    /**
+     * The most recently captured region, or null if nothing is selected.
+     */
+    public Image getExcerpt() {
+        return excerpt;
+    }
+
+    /**
+     * True while page or tile renders are queued, so background work can back off.
+     * Safe to call from any thread.
+     */
+    public boolean isRendering() {
+        return queuedRenders.get() > 0;
+    }
+
+    /**
+     * Runs {@code task} against the current document on the render thread, so it never
+     * touches the PDDocument concurrently with tile rendering, and hands the outcome to
+     * {@code onResult} or {@code onError} on the FX thread. The outcome is dropped if
+     * the document has been replaced in the meantime.
+     */
+    public <T> void submitDocumentTask(DocumentTask<T> task, Consumer<T> onResult, Consumer<Exception> onError) {
+        if (document == null) return;
+
+        PDDocument taskDocument = document;
+        long generation = documentGeneration;
+        submitRender(() -> {
+            try {
+                T result = task.run(taskDocument);
+                Platform.runLater(() -> {
+                    if (generation == documentGeneration) onResult.accept(result);
+                });
+            } catch (Exception e) {
+                Platform.runLater(() -> {
+                    if (generation == documentGeneration) onError.accept(e);
+                });
+            }
+        });
+    }
+
+    /**
+     * Work that reads the document; see {@link #submitDocumentTask}.
+     */
+    @FunctionalInterface
+    public interface DocumentTask<T> {
+        T run(PDDocument document) throws IOException;
+    }
+
+    private void submitRender(Runnable task) {
+        queuedRenders.incrementAndGet();
+        renderExecutor.submit(() -> {
+            try {
+                task.run();
+            } finally {
+                queuedRenders.decrementAndGet();
+            }
+        });
+    }
+
+    private void setZoomLevel(int newLevel) {
+        Bounds viewport = getViewportBounds();
+        setZoomLevel(newLevel, viewport.getWidth() / 2, viewport.getHeight() / 2);
+    }
+
+    /**
+     * Changes the zoom while keeping the page point under (anchorX, anchorY), given in
+     * viewport coordinates, fixed on screen.
+     */
+    private void setZoomLevel(int newLevel, double anchorX, double anchorY) {
+        newLevel = Math.max(0, Math.min(MAX_ZOOM_LEVEL, newLevel));
+        if (newLevel == zoomLevel || pageWidth <= 0) return;
+
+        Bounds viewport = getViewportBounds();
+        double oldWidth = content.getPrefWidth();
+        double oldHeight = content.getPrefHeight();
+        double anchorU = (scrollOffsetX() + anchorX) / oldWidth;
+        double anchorV = (scrollOffsetY() + anchorY) / oldHeight;
+
+        zoomLevel = newLevel;
+        zoom.set(Math.pow(ZOOM_STEP, zoomLevel));
+        clearTiles();
+        layoutPage();
+
+        double newWidth = content.getPrefWidth();
+        double newHeight = content.getPrefHeight();
+        setHvalue(toScrollValue(anchorU * newWidth - anchorX, newWidth - viewport.getWidth(), getHmin(), getHmax()));
+        setVvalue(toScrollValue(anchorV * newHeight - anchorY, newHeight - viewport.getHeight(), getVmin(), getVmax()));
+        updateVisibleTiles();
+    }
+
+    private void layoutPage() {
+        double width = Math.ceil(pageWidth * displayScale());
+        double height = Math.ceil(pageHeight * displayScale());
+        content.setPrefSize(width, height);
+        content.setMinSize(width, height);
+        content.setMaxSize(width, height);
+        previewView.setFitWidth(width);
+        previewView.setFitHeight(height);
+    }
+
+    /**
+     * Works out which tiles intersect the viewport (plus a one-tile margin), shows the
+     * cached ones and queues the rest for rendering.
+     */
+    private void updateVisibleTiles() {
+        if (renderer == null || pageIndex < 0 || pageWidth <= 0) return;
+
+        double outputScale = outputScale();
+        double renderScale = displayScale() * outputScale;
+        double tileExtent = TILE_SIZE / outputScale;
+        int columns = (int) Math.ceil(pageWidth * renderScale / TILE_SIZE);
+        int rows = (int) Math.ceil(pageHeight * renderScale / TILE_SIZE);
+
+        Bounds viewport = getViewportBounds();
+        int firstColumn = Math.max(0, (int) (scrollOffsetX() / tileExtent) - 1);
+        int firstRow = Math.max(0, (int) (scrollOffsetY() / tileExtent) - 1);
+        int lastColumn = Math.min(columns - 1, (int) ((scrollOffsetX() + viewport.getWidth()) / tileExtent) + 1);
+        int lastRow = Math.min(rows - 1, (int) ((scrollOffsetY() + viewport.getHeight()) / tileExtent) + 1);
+
+        Set<TileKey> visible = new HashSet<>();
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                visible.add(new TileKey(documentGeneration, pageIndex, zoomLevel, outputScale, column, row));
+            }
+        }
+
+        // Drop tiles that scrolled out of view; they stay in the cache
+        Iterator<Map.Entry<TileKey, ImageView>> shown = shownTiles.entrySet().iterator();
+        while (shown.hasNext()) {
+            Map.Entry<TileKey, ImageView> entry = shown.next();
+            if (!visible.contains(entry.getKey())) {
+                tileLayer.getChildren().remove(entry.getValue());
+                shown.remove();
+            }
+        }
+        wantedTiles.retainAll(visible);
+        pendingTiles.retainAll(visible);
+        wantedTiles.addAll(visible);
+
+        for (TileKey key : visible) {
+            if (shownTiles.containsKey(key)) continue;
+
+            Image cached = tileCache.get(key);
+            if (cached != null) {
+                showTile(key, cached);
+            } else if (pendingTiles.add(key)) {
+                requestTile(key, renderScale);
+            }
+        }
+    }
+
+    private void requestTile(TileKey key, double renderScale) {
+        PDFRenderer pageRenderer = renderer;
+        int pagePixelWidth = (int) Math.ceil(pageWidth * renderScale);
+        int pagePixelHeight = (int) Math.ceil(pageHeight * renderScale);
+
+        submitRender(() -> {
+            // Skip tiles the user has already scrolled or zoomed away from
+            if (!wantedTiles.contains(key)) return;
+
+            int x = key.column * TILE_SIZE;
+            int y = key.row * TILE_SIZE;
+            int width = Math.min(TILE_SIZE, pagePixelWidth - x);
+            int height = Math.min(TILE_SIZE, pagePixelHeight - y);
+            if (width <= 0 || height <= 0) return;
+
+            try {
+                BufferedImage tile = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+                Graphics2D graphics = tile.createGraphics();
+                graphics.setBackground(java.awt.Color.WHITE);
+                graphics.clearRect(0, 0, width, height);
+                graphics.setClip(0, 0, width, height);
+                graphics.translate(-x, -y);
+                pageRenderer.renderPageToGraphics(key.page, graphics, (float) renderScale);
+                graphics.dispose();
+
+                Image fxTile = PdfImages.toFxImage(tile);
+                Platform.runLater(() -> onTileRendered(key, fxTile));
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    private void onTileRendered(TileKey key, Image tile) {
+        if (key.generation != documentGeneration) return;
+
+        pendingTiles.remove(key);
+        tileCache.put(key, tile);
+        trimCache();
+
+        if (key.page == pageIndex && key.zoomLevel == zoomLevel && wantedTiles.contains(key)
+                && !shownTiles.containsKey(key)) {
+            showTile(key, tile);
+        }
+    }
+
+    private void showTile(TileKey key, Image tile) {
+        double tileExtent = TILE_SIZE / key.outputScale;
+        ImageView view = new ImageView(tile);
+        view.setSmooth(false);
+        view.setFitWidth(tile.getWidth() / key.outputScale);
+        view.setFitHeight(tile.getHeight() / key.outputScale);
+        view.setLayoutX(key.column * tileExtent);
+        view.setLayoutY(key.row * tileExtent);
+        tileLayer.getChildren().add(view);
+        shownTiles.put(key, view);
+    }
+
+    private void clearTiles() {
+        tileLayer.getChildren().clear();
+        shownTiles.clear();
+        pendingTiles.clear();
+        wantedTiles.clear();
+
+        // A selection only makes sense over the tiles it was drawn on
+        selectionRect.setVisible(false);
+        selecting = false;
+        excerpt = null;
+    }
+
+    /**
+     * Filters sit on the ScrollPane itself so a Shift + drag is seen (and consumed)
+     * before the skin's panning handlers get it.
+     */
+    private void setupSelectionHandlers() {
+        addEventFilter(MouseEvent.MOUSE_PRESSED, event -> {
+            if (renderer == null || pageWidth <= 0 || event.getButton() != MouseButton.PRIMARY) return;
+
+            Point2D point = toContent(event);
+            if (event.isShiftDown()) {
+                selecting = true;
+                excerpt = null;
+                selectionStartX = point.getX();
+                selectionStartY = point.getY();
+                updateSelection(point);
+                selectionRect.setVisible(true);
+                event.consume();
+            } else if (excerpt != null && selectionRect.contains(point)) {
+                // Let this press become a drag of the excerpt rather than a pan
+                setPannable(false);
+            }
+        });
+
+        addEventFilter(MouseEvent.MOUSE_DRAGGED, event -> {
+            if (selecting) {
+                updateSelection(toContent(event));
+                event.consume();
+            }
+        });
+
+        addEventFilter(MouseEvent.MOUSE_RELEASED, event -> {
+            setPannable(true);
+            if (!selecting) return;
+
+            selecting = false;
+            if (selectionRect.getWidth() >= 8 && selectionRect.getHeight() >= 8) {
+                excerpt = captureSelection();
+            }
+            if (excerpt != null) {
+                System.out.printf("Captured %dx%d excerpt from page %d%n",
+                        (int) excerpt.getWidth(), (int) excerpt.getHeight(), pageIndex + 1);
+            } else {
+                selectionRect.setVisible(false);
+            }
+            event.consume();
+        });
+    }
+
+    private void updateSelection(Point2D point) {
+        double width = content.getPrefWidth();
+        double height = content.getPrefHeight();
+        double x = Math.max(0, Math.min(width, point.getX()));
+        double y = Math.max(0, Math.min(height, point.getY()));
+
+        selectionRect.setX(Math.min(selectionStartX, x));
+        selectionRect.setY(Math.min(selectionStartY, y));
+        selectionRect.setWidth(Math.abs(x - selectionStartX));
+        selectionRect.setHeight(Math.abs(y - selectionStartY));
+    }
+
+    private void onExcerptDragDetected(MouseEvent event) {
+        if (excerpt == null) return;
+
+        Dragboard dragboard = selectionRect.startDragAndDrop(TransferMode.COPY);
+        ClipboardContent dragContent = new ClipboardContent();
+        dragContent.putString(EXCERPT_DRAG_KEY);
+        dragboard.setContent(dragContent);
+        event.consume();
+    }
+
+    /**
+     * Copies the selected region out of the cached tiles at full zoom resolution. If a
+     * tile under the selection hasn't finished rendering yet, the low-res preview is
+     * cropped instead so capture never waits on (or triggers) a render. Returns null if
+     * the page hasn't even got its preview yet.
+     */
+    private Image captureSelection() {
+        if (pageWidth <= 0) return null;
+
+        double outputScale = outputScale();
+        double renderScale = displayScale() * outputScale;
+        int pagePixelWidth = (int) Math.ceil(pageWidth * renderScale);
+        int pagePixelHeight = (int) Math.ceil(pageHeight * renderScale);
+
+        int x0 = (int) Math.floor(selectionRect.getX() * outputScale);
+        int y0 = (int) Math.floor(selectionRect.getY() * outputScale);
+        int x1 = Math.min(pagePixelWidth, (int) Math.ceil((selectionRect.getX() + selectionRect.getWidth()) * outputScale));
+        int y1 = Math.min(pagePixelHeight, (int) Math.ceil((selectionRect.getY() + selectionRect.getHeight()) * outputScale));
+
+        WritableImage captured = new WritableImage(x1 - x0, y1 - y0);
+        PixelWriter writer = captured.getPixelWriter();
+
+        for (int row = y0 / TILE_SIZE; row <= (y1 - 1) / TILE_SIZE; row++) {
+            for (int column = x0 / TILE_SIZE; column <= (x1 - 1) / TILE_SIZE; column++) {
+                TileKey key = new TileKey(documentGeneration, pageIndex, zoomLevel, outputScale, column, row);
+                Image tile = tileCache.get(key);
+                if (tile == null) {
+                    return cropPreview();
+                }
+
+                int tileX = column * TILE_SIZE;
+                int tileY = row * TILE_SIZE;
+                int fromX = Math.max(x0, tileX);
+                int fromY = Math.max(y0, tileY);
+                int toX = Math.min(x1, tileX + (int) tile.getWidth());
+                int toY = Math.min(y1, tileY + (int) tile.getHeight());
+                if (toX <= fromX || toY <= fromY) continue;
+
+                writer.setPixels(fromX - x0, fromY - y0, toX - fromX, toY - fromY,
+                        tile.getPixelReader(), fromX - tileX, fromY - tileY);
+            }
+        }
+        return captured;
+    }
+
+    private Image cropPreview() {
+        Image preview = previewView.getImage();
+        if (preview == null) return null;
+
+        double factor = preview.getWidth() / content.getPrefWidth();
+
+        int x = (int) Math.floor(selectionRect.getX() * factor);
+        int y = (int) Math.floor(selectionRect.getY() * factor);
+        int width = Math.max(1, Math.min((int) preview.getWidth() - x, (int) Math.ceil(selectionRect.getWidth() * factor)));
+        int height = Math.max(1, Math.min((int) preview.getHeight() - y, (int) Math.ceil(selectionRect.getHeight() * factor)));
+        return new WritableImage(preview.getPixelReader(), x, y, width, height);
+    }
+
+    private Point2D toContent(MouseEvent event) {
+        return content.sceneToLocal(event.getSceneX(), event.getSceneY());
+    }
+
+    private void trimCache() {
+        Iterator<TileKey> eldest = tileCache.keySet().iterator();
+        while (tileCache.size() > MAX_CACHED_TILES && eldest.hasNext()) {
+            TileKey key = eldest.next();
+            if (!shownTiles.containsKey(key)) {
+                eldest.remove();
+            }
+        }
+    }
+
+    private double displayScale() {
+        return fitWidth / pageWidth * zoom.get();
+    }
+
+    private double outputScale() {
+        if (getScene() != null && getScene().getWindow() != null) {
+            return getScene().getWindow().getOutputScaleX();
+        }
+        return Screen.getPrimary().getOutputScaleX();
+    }
+
+    private double scrollOffsetX() {
+        double overflow = content.getPrefWidth() - getViewportBounds().getWidth();
+        return Math.max(0, overflow) * scrollFraction(getHvalue(), getHmin(), getHmax());
+    }
+
+    private double scrollOffsetY() {
+        double overflow = content.getPrefHeight() - getViewportBounds().getHeight();
+        return Math.max(0, overflow) * scrollFraction(getVvalue(), getVmin(), getVmax());
+    }
+
+    private static double scrollFraction(double value, double min, double max) {
+        return max > min ? (value - min) / (max - min) : 0;
+    }
+
+    private static double toScrollValue(double offset, double overflow, double min, double max) {
+        if (overflow <= 0) return min;
+        double fraction = Math.max(0, Math.min(1, offset / overflow));
+        return min + fraction * (max - min);
+    }
+
+    private static final class TileKey {
+        final long generation;
+        final int page;
+        final int zoomLevel;
+        final double outputScale;
+        final int column, row;
+
+        TileKey(long generation, int page, int zoomLevel, double outputScale, int column, int row) {
+            this.generation = generation;
+            this.page = page;
+            this.zoomLevel = zoomLevel;
+            this.outputScale = outputScale;
+            this.column = column;
+            this.row = row;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TileKey)) return false;
+            TileKey other = (TileKey) o;
+            return generation == other.generation && page == other.page && zoomLevel == other.zoomLevel
+                    && outputScale == other.outputScale && column == other.column && row == other.row;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(generation, page, zoomLevel, outputScale, column, row);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.vtt;
+
+import javafx.scene.image.Image;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+
+/**
+ * On-disk thumbnail store, one directory per document under ~/.vtt/thumbnails.
+ *
+ * Documents are keyed by path, size and modification time rather than by content,
+ * so opening a large rulebook never has to hash the whole file. Editing or moving a
+ * file therefore orphans its old directory; only the most recently used
+ * {@link #MAX_CACHED_DOCUMENTS} directories are kept.
+ */
+final class PdfThumbnailCache {
+
+    private static final Path ROOT = Path.of(System.getProperty("user.home"), ".vtt", "thumbnails");
+    private static final int MAX_CACHED_DOCUMENTS = 32;
+
+    private final Path directory;
+    private final int dpi;
+
+    private PdfThumbnailCache(Path directory, int dpi) {
+        this.directory = directory;
+        this.dpi = dpi;
+    }
+
+    static PdfThumbnailCache forDocument(File pdfFile, int dpi) {
+        String identity = pdfFile.getAbsolutePath() + "|" + pdfFile.length() + "|" + pdfFile.lastModified();
+        return new PdfThumbnailCache(ROOT.resolve(hash(identity)), dpi);
+    }
+
+    boolean contains(int pageIndex) {
+        return Files.isRegularFile(pathFor(pageIndex));
+    }
+
+    /**
+     * Loads a stored thumbnail, or returns null if it is missing or unreadable.
+     */
+    Image load(int pageIndex) {
+        Path path = pathFor(pageIndex);
+        if (!Files.isRegularFile(path)) return null;
+
+        Image image = new Image(path.toUri().toString());
+        return image.isError() ? null : image;
+    }
+
+    void store(int pageIndex, BufferedImage thumbnail) throws IOException {
+        Files.createDirectories(directory);
+
+        // Write to a temp file first so a crash never leaves a half-written PNG behind
+        Path target = pathFor(pageIndex);
+        Path temp = Files.createTempFile(directory, "page-", ".tmp");
+        try {
+            ImageIO.write(thumbnail, "png", temp.toFile());
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Marks this document as recently used and deletes the least recently used document
+     * directories beyond the cap. Does disk I/O; call it off the FX thread.
+     */
+    void prune() {
+        List<Path> others;
+        try {
+            if (Files.isDirectory(directory)) {
+                Files.setLastModifiedTime(directory, FileTime.fromMillis(System.currentTimeMillis()));
+            }
+            if (!Files.isDirectory(ROOT)) return;
+
+            try (Stream<Path> entries = Files.list(ROOT)) {
+                others = entries.filter(Files::isDirectory)
+                        .filter(entry -> !entry.equals(directory))
+                        .collect(Collectors.toList());
+            }
+        } catch (IOException e) {
+            System.out.println("Failed to prune thumbnail cache: " + e.getMessage());
+            return;
+        }
+
+        // This document keeps one of the slots
+        if (others.size() < MAX_CACHED_DOCUMENTS) return;
+        others.sort(Comparator.comparingLong((Path entry) -> entry.toFile().lastModified()).reversed());
+
+        for (Path stale : others.subList(MAX_CACHED_DOCUMENTS - 1, others.size())) {
+            try {
+                deleteRecursively(stale);
+            } catch (IOException e) {
+                System.out.println("Failed to delete stale thumbnails in " + stale + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static void deleteRecursively(Path root) throws IOException {
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(root)) {
+            paths = walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        }
+        for (Path path : paths) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private Path pathFor(int pageIndex) {
+        return directory.resolve(String.format("page-%d@%ddpi.png", pageIndex, dpi));
+    }
+
+    private static String hash(String identity) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(identity.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 16; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.vtt;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Orientation;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.VBox;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * Horizontal, virtualized strip of page thumbnails.
+ *
+ * Only the cells on screen exist, and they ask the thumbnail worker for their page
+ * the first time they show it. Delivered images are held in a small LRU; anything
+ * evicted is reloaded cheaply from the worker's disk cache.
+ */
+public class PdfThumbnailStrip extends ListView<Integer> {
+
+    private static final double THUMBNAIL_WIDTH = 60;
+    private static final double THUMBNAIL_HEIGHT = 80;
+    private static final int MAX_THUMBNAILS_IN_MEMORY = 120;
+
+    private final Map<Integer, Image> thumbnails = new LinkedHashMap<>(64, 0.75f, true);
+    private final Set<Integer> requested = new HashSet<>();
+    private PdfThumbnailWorker worker;
+    private IntConsumer onPageSelected = page -> { };
+
+    public PdfThumbnailStrip() {
+        setOrientation(Orientation.HORIZONTAL);
+        setPrefHeight(THUMBNAIL_HEIGHT + 40);
+        setCellFactory(list -> new ThumbnailCell());
+
+        getSelectionModel().selectedItemProperty().addListener((obs, oldPage, newPage) -> {
+            if (newPage != null) {
+                onPageSelected.accept(newPage);
+            }
+        });
+    }
+
+    /**
+     * Switches the strip to a new document. Pass a null worker to clear it.
+     */
+    void setDocument(int pageCount, PdfThumbnailWorker newWorker) {
+        worker = newWorker;
+        thumbnails.clear();
+        requested.clear();
+
+        ObservableList<Integer> pages = FXCollections.observableArrayList();
+        for (int page = 0; page < pageCount; page++) {
+            pages.add(page);
+        }
+        setItems(pages);
+    }
+
+    void setThumbnail(int pageIndex, Image thumbnail) {
+        requested.remove(pageIndex);
+        thumbnails.put(pageIndex, thumbnail);
+
+        if (thumbnails.size() > MAX_THUMBNAILS_IN_MEMORY) {
+            thumbnails.remove(thumbnails.keySet().iterator().next());
+        }
+
+        // Replacing an item with itself re-renders just that row, if it is on screen
+        if (pageIndex < getItems().size()) {
+            getItems().set(pageIndex, pageIndex);
+        }
+    }
+
+    /**
+     * Highlights and scrolls to the page currently shown in the page view.
+     */
+    public void showPage(int pageIndex) {
+        if (getSelectionModel().getSelectedIndex() != pageIndex) {
+            getSelectionModel().select(pageIndex);
+        }
+        scrollTo(Math.max(0, pageIndex - 2));
+    }
+
+    public void setOnPageSelected(IntConsumer onPageSelected) {
+        this.onPageSelected = onPageSelected;
+    }
+
+    private Image thumbnailFor(int pageIndex) {
+        Image thumbnail = thumbnails.get(pageIndex);
+        if (thumbnail == null && worker != null && requested.add(pageIndex)) {
+            worker.request(pageIndex);
+        }
+        return thumbnail;
+    }
+
+    private class ThumbnailCell extends ListCell<Integer> {
+        private final ImageView imageView = new ImageView();
+        private final Label pageLabel = new Label();
+        private final VBox content = new VBox(2, imageView, pageLabel);
+
+        ThumbnailCell() {
+            imageView.setFitWidth(THUMBNAIL_WIDTH);
+            imageView.setFitHeight(THUMBNAIL_HEIGHT);
+            imageView.setPreserveRatio(true);
+            content.setAlignment(Pos.CENTER);
+            content.setMinHeight(THUMBNAIL_HEIGHT + 20);
+        }
+
+        @Override
+        protected void updateItem(Integer pageIndex, boolean empty) {
+            super.updateItem(pageIndex, empty);
+
+            if (empty || pageIndex == null) {
+                imageView.setImage(null);
+                setGraphic(null);
+                return;
+            }
+
+            pageLabel.setText(String.valueOf(pageIndex + 1));
+            imageView.setImage(thumbnailFor(pageIndex));
+            setGraphic(content);
+        }
+    }
+}
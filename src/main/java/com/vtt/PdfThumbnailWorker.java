@@ -0,0 +1,184 @@
+package com.vtt;
+
+import javafx.application.Platform;
+import javafx.scene.control.TreeItem;
+import javafx.scene.image.Image;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDDocumentOutline;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDOutlineItem;
+import org.apache.pdfbox.rendering.PDFRenderer;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Low-priority background thread that builds the outline tree and page thumbnails.
+ *
+ * It opens its own copy of the document so it never contends with the page view's
+ * renderer for the same PDDocument, and it pauses whenever the page view has work
+ * queued. Requested pages (visible thumbnail cells) are served first; when idle it
+ * sweeps the remaining pages into the disk cache so later sessions start warm.
+ */
+final class PdfThumbnailWorker {
+
+    static final int THUMBNAIL_DPI = 12;
+    private static final int MAX_OUTLINE_DEPTH = 32;
+    private static final long BACKOFF_MILLIS = 50;
+
+    private final File pdfFile;
+    private final int pageCount;
+    private final PdfThumbnailCache cache;
+    private final BooleanSupplier foregroundBusy;
+    private final BiConsumer<Integer, Image> onThumbnail;
+    private final Consumer<TreeItem<PdfOutlineEntry>> onOutline;
+
+    private final LinkedBlockingDeque<Integer> requests = new LinkedBlockingDeque<>();
+    private final Thread thread;
+    private volatile boolean stopped = false;
+
+    PdfThumbnailWorker(File pdfFile, int pageCount, BooleanSupplier foregroundBusy,
+                       BiConsumer<Integer, Image> onThumbnail,
+                       Consumer<TreeItem<PdfOutlineEntry>> onOutline) {
+        this.pdfFile = pdfFile;
+        this.pageCount = pageCount;
+        this.cache = PdfThumbnailCache.forDocument(pdfFile, THUMBNAIL_DPI);
+        this.foregroundBusy = foregroundBusy;
+        this.onThumbnail = onThumbnail;
+        this.onOutline = onOutline;
+
+        thread = new Thread(this::run, "pdf-thumbnail-worker");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void stop() {
+        stopped = true;
+        thread.interrupt();
+    }
+
+    /**
+     * Asks for a page's thumbnail to be delivered. Newest requests are served first,
+     * which favours whatever the user has just scrolled into view.
+     */
+    void request(int pageIndex) {
+        requests.offerFirst(pageIndex);
+    }
+
+    private void run() {
+        try (PDDocument document = Loader.loadPDF(pdfFile)) {
+            TreeItem<PdfOutlineEntry> outline = buildOutline(document);
+            deliver(() -> onOutline.accept(outline));
+            cache.prune();
+
+            PDFRenderer renderer = new PDFRenderer(document);
+            BitSet cached = new BitSet(pageCount);
+            int sweepPage = 0;
+
+            while (!stopped) {
+                Integer requested = requests.pollFirst();
+                if (requested != null) {
+                    Image thumbnail = cache.load(requested);
+                    if (thumbnail == null) {
+                        BufferedImage rendered = renderThumbnail(renderer, requested);
+                        thumbnail = rendered != null ? PdfImages.toFxImage(rendered) : null;
+                    }
+                    cached.set(requested);
+                    if (thumbnail != null) {
+                        Image delivered = thumbnail;
+                        deliver(() -> onThumbnail.accept(requested, delivered));
+                    }
+                    continue;
+                }
+
+                // Nothing visible is waiting: warm the disk cache one page at a time
+                while (sweepPage < pageCount && (cached.get(sweepPage) || cache.contains(sweepPage))) {
+                    sweepPage++;
+                }
+                if (sweepPage < pageCount) {
+                    renderThumbnail(renderer, sweepPage);
+                    cached.set(sweepPage);
+                } else {
+                    // Everything is on disk: sleep until a cell asks for something
+                    requests.putFirst(requests.takeFirst());
+                }
+            }
+        } catch (InterruptedException e) {
+            // Stopped while idle
+        } catch (IOException e) {
+            if (!stopped) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Renders and stores one thumbnail. Returns null if the page could not be rendered;
+     * a broken page or an unwritable cache directory should not stop the other pages.
+     */
+    private BufferedImage renderThumbnail(PDFRenderer renderer, int pageIndex) throws InterruptedException {
+        // Never compete with the page view for CPU
+        while (foregroundBusy.getAsBoolean()) {
+            Thread.sleep(BACKOFF_MILLIS);
+        }
+
+        BufferedImage thumbnail;
+        try {
+            thumbnail = renderer.renderImageWithDPI(pageIndex, THUMBNAIL_DPI);
+        } catch (IOException e) {
+            System.out.println("Failed to render thumbnail for page " + (pageIndex + 1) + ": " + e.getMessage());
+            return null;
+        }
+
+        try {
+            cache.store(pageIndex, thumbnail);
+        } catch (IOException e) {
+            System.out.println("Failed to cache thumbnail for page " + (pageIndex + 1) + ": " + e.getMessage());
+        }
+        return thumbnail;
+    }
+
+    private TreeItem<PdfOutlineEntry> buildOutline(PDDocument document) throws IOException {
+        TreeItem<PdfOutlineEntry> root = new TreeItem<>(new PdfOutlineEntry(pdfFile.getName(), 0));
+        PDDocumentOutline outline = document.getDocumentCatalog().getDocumentOutline();
+        if (outline != null) {
+            addOutlineItems(document, outline.children(), root, 0);
+        }
+        return root;
+    }
+
+    private void addOutlineItems(PDDocument document, Iterable<PDOutlineItem> items,
+                                 TreeItem<PdfOutlineEntry> parent, int depth) throws IOException {
+        if (depth > MAX_OUTLINE_DEPTH) return;
+
+        for (PDOutlineItem item : items) {
+            PDPage target = item.findDestinationPage(document);
+            int pageIndex = target != null ? document.getPages().indexOf(target) : -1;
+            String title = item.getTitle() != null ? item.getTitle() : "Untitled";
+
+            TreeItem<PdfOutlineEntry> child = new TreeItem<>(new PdfOutlineEntry(title, pageIndex));
+            addOutlineItems(document, item.children(), child, depth + 1);
+            parent.getChildren().add(child);
+        }
+    }
+
+    private void deliver(Runnable update) {
+        Platform.runLater(() -> {
+            if (!stopped) {
+                update.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,325 @@
+package com.vtt;
+
+import javafx.geometry.Insets;
+import javafx.scene.control.*;
+import javafx.scene.image.Image;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.stage.FileChooser;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.FontMappers;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.apache.pdfbox.Loader;
+
+import java.io.File;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+
+/**
+ * The rulebook side panel: loading, search, page navigation, zoom, thumbnails and
+ * outline.
+ *
+ * PDFBox is used here and by the classes this panel owns ({@link PdfPageView} renders
+ * with the document, {@link PdfThumbnailWorker} loads its own copy). Main reaches all
+ * of them only through this panel and builds it on the FX thread right after the
+ * battlemap's first frame, which is what keeps PDFBox out of startup.
+ */
+public class PdfViewerPanel extends VBox {
+
+    static final double PANEL_WIDTH = 350;
+    static final String PANEL_STYLE =
+            "-fx-background-color: #f8f8f8; -fx-border-color: #cccccc; -fx-border-width: 0 1 0 0;";
+
+    // PDF Viewer Components
+    private PdfPageView pdfPageView;
+    private PdfThumbnailStrip thumbnailStrip;
+    private TreeView<PdfOutlineEntry> outlineTree;
+    private TitledPane outlinePane;
+    private Label pdfStatusLabel;
+    private Button prevPageButton, nextPageButton;
+    private Label pageInfoLabel;
+    private Button zoomOutButton, zoomInButton, zoomResetButton;
+    private Label zoomLabel;
+    private TextField searchField;
+    private Button searchButton;
+
+    // PDF State
+
+    private PDDocument currentPdfDocument;
+    private PdfThumbnailWorker thumbnailWorker;
+    private int currentPage = 0;
+    private int totalPages = 0;
+    private String currentPdfName = "";
+
+    public PdfViewerPanel() {
+        super(10);
+        setPadding(new Insets(10));
+        setPrefWidth(PANEL_WIDTH);
+        setStyle(PANEL_STYLE);
+
+        Label title = new Label("PDF Viewer");
+        title.setFont(Font.font("System", FontWeight.BOLD, 16));
+
+        Button loadPdfButton = new Button("Load PDF");
+        loadPdfButton.setOnAction(e -> loadPdfFile());
+
+        pdfStatusLabel = new Label("No PDF Loaded");
+        pdfStatusLabel.setStyle("-fx-text-fill: #666666");
+
+        HBox searchBox = new HBox(5);
+        searchField = new TextField();
+        searchField.setPromptText("Search PDF content...");
+        searchField.setPrefWidth(200);
+        searchButton = new Button("Search");
+        searchButton.setOnAction(e -> searchPdf());
+        searchField.setOnAction(e -> searchPdf());
+
+        searchBox.getChildren().addAll(searchField, searchButton);
+
+        // Page navigation
+        HBox pageControls = new HBox(10);
+        prevPageButton = new Button("◀ Prev");
+        nextPageButton = new Button("Next ▶");
+        pageInfoLabel = new Label("Page: -/-");
+
+        prevPageButton.setOnAction(e -> previousPage());
+        nextPageButton.setOnAction(e -> nextPage());
+
+        pageControls.getChildren().addAll(prevPageButton, pageInfoLabel, nextPageButton);
+
+        // PDF display area (Ctrl + scroll also zooms)
+        pdfPageView = new PdfPageView(330);
+        pdfPageView.setPrefHeight(400);
+        pdfPageView.setMinHeight(200);
+        pdfPageView.setStyle("-fx-background-color: white;");
+        VBox.setVgrow(pdfPageView, Priority.ALWAYS);
+
+        // Thumbnail strip and outline, filled in by a background worker
+        thumbnailStrip = new PdfThumbnailStrip();
+        thumbnailStrip.setOnPageSelected(this::goToPage);
+
+        outlineTree = new TreeView<>();
+        outlineTree.setShowRoot(false);
+        outlineTree.setPrefHeight(200);
+        outlineTree.getSelectionModel().selectedItemProperty().addListener((obs, oldItem, newItem) -> {
+            if (newItem != null && newItem.getValue().getPageIndex() >= 0) {
+                goToPage(newItem.getValue().getPageIndex());
+            }
+        });
+
+        outlinePane = new TitledPane("Outline", outlineTree);
+        outlinePane.setExpanded(false);
+        outlinePane.setDisable(true);
+
+        // Zoom controls
+        HBox zoomControls = new HBox(10);
+        zoomOutButton = new Button("−");
+        zoomInButton = new Button("+");
+        zoomResetButton = new Button("Fit");
+        zoomLabel = new Label("Zoom: 100%");
+
+        zoomOutButton.setOnAction(e -> pdfPageView.zoomOut());
+        zoomInButton.setOnAction(e -> pdfPageView.zoomIn());
+        zoomResetButton.setOnAction(e -> pdfPageView.resetZoom());
+        pdfPageView.zoomProperty().addListener((obs, oldZoom, newZoom) ->
+                zoomLabel.setText(String.format("Zoom: %d%%", Math.round(newZoom.doubleValue() * 100))));
+
+        zoomControls.getChildren().addAll(zoomOutButton, zoomLabel, zoomInButton, zoomResetButton);
+
+        // Disable controls initially
+        disablePdfControls();
+
+        getChildren().addAll(
+                title,
+                loadPdfButton,
+                pdfStatusLabel,
+                new Separator(),
+                searchBox,
+                pageControls,
+                zoomControls,
+                thumbnailStrip,
+                pdfPageView,
+                outlinePane
+        );
+    }
+
+    /**
+     * Pays PDFBox's one-off startup costs (class loading, the Java2D rendering path,
+     * system font discovery) and ImageIO's plugin scan. Meant for a background thread
+     * so the first real page load doesn't stall the UI. Never throws: failures are
+     * logged and the viewer simply pays those costs on first use instead.
+     */
+    static void warmUp() {
+        try (PDDocument document = new PDDocument()) {
+            document.addPage(new PDPage(PDRectangle.A6));
+            new PDFRenderer(document).renderImageWithDPI(0, 8);
+            FontMappers.instance().getFontBoxFont("Helvetica", null);
+            ImageIO.getImageWritersByFormatName("png").hasNext();
+        } catch (IOException | RuntimeException | LinkageError e) {
+            // Purely an optimisation: the viewer works without it, just slower on first use
+            System.out.println("PDF warm-up failed: " + e);
+        }
+    }
+
+    /**
+     * The most recently captured page region, or null if nothing is selected.
+     */
+    public Image getExcerpt() {
+        return pdfPageView.getExcerpt();
+    }
+
+    private void loadPdfFile() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Select PDF Rulebook");
+        fileChooser.getExtensionFilters().add(
+                new FileChooser.ExtensionFilter("PDF Files", "*.pdf")
+        );
+
+        File selectedFile = fileChooser.showOpenDialog(null);
+        if (selectedFile != null) {
+            try {
+                // Load new PDF; the page view closes the previous one once its renders finish
+                currentPdfDocument = Loader.loadPDF(selectedFile);
+                pdfPageView.setDocument(currentPdfDocument);
+                totalPages = currentPdfDocument.getNumberOfPages();
+                currentPage = 0;
+                currentPdfName = selectedFile.getName();
+
+                // Thumbnails and outline come from their own low-priority copy of the document
+                if (thumbnailWorker != null) {
+                    thumbnailWorker.stop();
+                }
+                thumbnailWorker = new PdfThumbnailWorker(selectedFile, totalPages, pdfPageView::isRendering,
+                        thumbnailStrip::setThumbnail, this::showOutline);
+                thumbnailStrip.setDocument(totalPages, thumbnailWorker);
+                outlineTree.setRoot(null);
+                outlinePane.setText("Outline");
+                outlinePane.setDisable(true);
+                thumbnailWorker.start();
+
+                // Update UI
+                pdfStatusLabel.setText("Loaded: " + currentPdfName);
+                enablePdfControls();
+                displayCurrentPage();
+
+                System.out.println("Loaded PDF: " + currentPdfName + " (" + totalPages + " pages)");
+
+            } catch (IOException e) {
+                showAlert("Error", "Failed to load PDF: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void displayCurrentPage() {
+        if (currentPdfDocument == null) return;
+
+        // Preview and tiles are rendered in the background at the current zoom
+        pdfPageView.showPage(currentPage);
+
+        thumbnailStrip.showPage(currentPage);
+
+        // Update page info
+        pageInfoLabel.setText(String.format("Page: %d/%d", currentPage + 1, totalPages));
+
+        // Update button states
+        prevPageButton.setDisable(currentPage <= 0);
+        nextPageButton.setDisable(currentPage >= totalPages - 1);
+    }
+
+    private void goToPage(int page) {
+        if (page < 0 || page >= totalPages || page == currentPage) return;
+        currentPage = page;
+        displayCurrentPage();
+    }
+
+    private void showOutline(TreeItem<PdfOutlineEntry> root) {
+        outlineTree.setRoot(root);
+        boolean hasOutline = !root.getChildren().isEmpty();
+        outlinePane.setText(hasOutline ? "Outline" : "Outline (none)");
+        outlinePane.setDisable(!hasOutline);
+    }
+
+    private void previousPage() {
+        if (currentPage > 0) {
+            currentPage--;
+            displayCurrentPage();
+        }
+    }
+
+    private void nextPage() {
+        if (currentPage < totalPages - 1) {
+            currentPage++;
+            displayCurrentPage();
+        }
+    }
+
+    private void searchPdf() {
+        String searchText = searchField.getText().trim();
+        if (searchText.isEmpty() || currentPdfDocument == null) {
+            return;
+        }
+
+        // The page view's render thread owns the document; read it there, not on the FX thread
+        String query = searchText.toLowerCase();
+        int pageCount = totalPages;
+        searchButton.setDisable(true);
+        pdfPageView.submitDocumentTask(document -> {
+            // Simple search implementation - you could enhance this
+            for (int pageNum = 1; pageNum < pageCount; pageNum++) {
+                String pageText = document.getPage(pageNum).getContents().toString();
+                if (pageText.toLowerCase().contains(query)) {
+                    return pageNum;
+                }
+            }
+            return -1;
+        }, foundPage -> {
+            searchButton.setDisable(false);
+            if (foundPage >= 0) {
+                currentPage = foundPage;
+                displayCurrentPage();
+                System.out.println("Found '" + searchText + "' on page " + (foundPage + 1));
+            } else {
+                showAlert("Search", "Text '" + searchText + "' not found in remaining pages.");
+            }
+        }, e -> {
+            searchButton.setDisable(false);
+            showAlert("Error", "Search failed: " + e.getMessage());
+            e.printStackTrace();
+        });
+    }
+
+    private void enablePdfControls() {
+        prevPageButton.setDisable(false);
+        nextPageButton.setDisable(false);
+        searchButton.setDisable(false);
+        searchField.setDisable(false);
+        zoomOutButton.setDisable(false);
+        zoomInButton.setDisable(false);
+        zoomResetButton.setDisable(false);
+    }
+
+    private void disablePdfControls() {
+        prevPageButton.setDisable(true);
+        nextPageButton.setDisable(true);
+        searchButton.setDisable(true);
+        searchField.setDisable(true);
+        zoomOutButton.setDisable(true);
+        zoomInButton.setDisable(true);
+        zoomResetButton.setDisable(true);
+    }
+
+    private void showAlert(String title, String message) {
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle(title);
+        alert.setHeaderText(null);
+        alert.setContentText(message);
+        alert.showAndWait();
+    }
+}
@@ -0,0 +1,78 @@
+package com.vtt;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Coalesces repaint requests into at most one render per JavaFX pulse.
+ *
+ * Input handlers only update state and call one of the request methods; any number
+ * of requests between two pulses collapse into a single frame. A full request
+ * supersedes pending cell requests. While an overlay that only a full frame can draw
+ * is showing (e.g. a dragged token), cell requests are promoted to one full render.
+ * The timer stops itself once a frame is drawn, so an idle map costs no pulses at all.
+ */
+public class RenderScheduler extends AnimationTimer {
+    private final Runnable fullRender;
+    private final BiConsumer<Integer, Integer> cellRender;
+    private final BooleanSupplier fullFrameOnly;
+
+    private boolean fullDirty = false;
+    private final Set<Long> dirtyCells = new LinkedHashSet<>();
+    private boolean running = false;
+
+    public RenderScheduler(Runnable fullRender, BiConsumer<Integer, Integer> cellRender,
+                           BooleanSupplier fullFrameOnly) {
+        this.fullRender = fullRender;
+        this.cellRender = cellRender;
+        this.fullFrameOnly = fullFrameOnly;
+    }
+
+    public void requestFullRender() {
+        fullDirty = true;
+        wake();
+    }
+
+    public void requestCellRender(int gridX, int gridY) {
+        if (fullDirty) return;
+        if (fullFrameOnly.getAsBoolean()) {
+            requestFullRender();
+            return;
+        }
+        dirtyCells.add(((long) gridX << 32) | (gridY & 0xFFFFFFFFL));
+        wake();
+    }
+
+    @Override
+    public void handle(long now) {
+        // The overlay may have appeared after the cells were requested
+        if (fullDirty || !dirtyCells.isEmpty() && fullFrameOnly.getAsBoolean()) {
+            fullDirty = false;
+            dirtyCells.clear();
+            fullRender.run();
+        } else if (!dirtyCells.isEmpty()) {
+            Long[] cells = dirtyCells.toArray(new Long[0]);
+            dirtyCells.clear();
+            for (long cell : cells) {
+                cellRender.accept((int) (cell >> 32), (int) cell);
+            }
+        }
+
+        // Nothing was requested while rendering: go idle until the next request
+        if (!fullDirty && dirtyCells.isEmpty()) {
+            stop();
+            running = false;
+        }
+    }
+
+    private void wake() {
+        if (!running) {
+            running = true;
+            start();
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.vtt;
 
+import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 
 public class Token {
     private int gridX, gridY;
     private TokenType type;
+    private Image statBlock;
+    private Combatant combatant;
 
     public Token(int gridX, int gridY, TokenType type) {
         this.gridX = gridX;
@@ -15,10 +18,14 @@ public class Token {
     public int getGridX() { return gridX; }
     public int getGridY() { return gridY; }
     public TokenType getType() { return type; }
+    public Image getStatBlock() { return statBlock; }
+    public Combatant getCombatant() { return combatant; }
 
     public void setGridX(int gridX) { this.gridX = gridX; }
     public void setGridY(int gridY) { this.gridY = gridY; }
     public void setType(TokenType type) { this.type = type; }
+    public void setStatBlock(Image statBlock) { this.statBlock = statBlock; }
+    void setCombatant(Combatant combatant) { this.combatant = combatant; }
 
     @Override
     public String toString() {
@@ -0,0 +1,193 @@
+package com.vtt;
+
+import junit.framework.TestCase;
+
+/**
+ * Coverage snapshots for {@link AreaTemplate} and {@link CoverageMask}.
+ *
+ * Snapshots mark covered cells with '#', the origin with 'o' (or 'O' if covered).
+ * Directions count clockwise from east in 45 degree steps.
+ */
+public class AreaTemplateTest extends TestCase {
+
+    private static final int EAST = 0, SOUTH_EAST = 1, SOUTH = 2, WEST = 4, NORTH_WEST = 5, NORTH = 6,
+            NORTH_EAST = 7;
+
+    public void testConeEast() {
+        assertCoverage(AreaShape.CONE, 15, EAST, 1, 3, 6, 7,
+                "......",
+                "......",
+                "...##.",
+                ".o###.",
+                "...##.",
+                "......",
+                "......");
+    }
+
+    public void testConeSouthEast() {
+        assertCoverage(AreaShape.CONE, 15, SOUTH_EAST, 1, 1, 6, 6,
+                "......",
+                ".o....",
+                "..###.",
+                "..##..",
+                "..#...",
+                "......");
+    }
+
+    public void testSphere() {
+        assertCoverage(AreaShape.SPHERE, 10, EAST, 3, 3, 7, 7,
+                ".......",
+                "...#...",
+                "..###..",
+                ".##O##.",
+                "..###..",
+                "...#...",
+                ".......");
+    }
+
+    public void testSphereIgnoresDirection() {
+        for (int direction = 0; direction < CoverageMask.DIRECTIONS; direction++) {
+            assertSame(CoverageMask.of(AreaShape.SPHERE, 4, 0), CoverageMask.of(AreaShape.SPHERE, 4, direction));
+        }
+    }
+
+    public void testLineNorth() {
+        assertCoverage(AreaShape.LINE, 20, NORTH, 2, 5, 5, 6,
+                ".....",
+                "..#..",
+                "..#..",
+                "..#..",
+                "..#..",
+                "..o..");
+    }
+
+    public void testLineNorthEastFromLeftEdge() {
+        assertCoverage(AreaShape.LINE, 20, NORTH_EAST, 0, 4, 5, 5,
+                ".....",
+                ".....",
+                "..#..",
+                ".#...",
+                "o....");
+    }
+
+    public void testCubeSouthFromTopEdge() {
+        assertCoverage(AreaShape.CUBE, 15, SOUTH, 2, 0, 6, 5,
+                "..o...",
+                ".###..",
+                ".###..",
+                ".###..",
+                "......");
+    }
+
+    public void testCubeNorthWest() {
+        assertCoverage(AreaShape.CUBE, 15, NORTH_WEST, 4, 4, 6, 6,
+                "......",
+                "...#..",
+                "..###.",
+                ".####.",
+                "..##o.",
+                "......");
+    }
+
+    public void testSphereClippedAtTopLeftCorner() {
+        assertCoverage(AreaShape.SPHERE, 10, EAST, 0, 0, 5, 5,
+                "O##..",
+                "##...",
+                "#....",
+                ".....",
+                ".....");
+    }
+
+    public void testSphereClippedAtBottomRightCorner() {
+        assertCoverage(AreaShape.SPHERE, 10, EAST, 4, 4, 5, 5,
+                ".....",
+                ".....",
+                "....#",
+                "...##",
+                "..##O");
+    }
+
+    public void testConePointingOffTheMapCoversNothing() {
+        assertCoverage(AreaShape.CONE, 15, WEST, 0, 2, 5, 5,
+                ".....",
+                ".....",
+                "o....",
+                ".....",
+                ".....");
+        assertCoverage(AreaShape.CONE, 15, EAST, 4, 2, 5, 5,
+                ".....",
+                ".....",
+                "....o",
+                ".....",
+                ".....");
+    }
+
+    public void testSizeIsClampedToMaximum() {
+        for (AreaShape shape : AreaShape.values()) {
+            for (int direction = 0; direction < CoverageMask.DIRECTIONS; direction++) {
+                assertSame(CoverageMask.of(shape, CoverageMask.MAX_SIZE_CELLS, direction),
+                        CoverageMask.of(shape, CoverageMask.MAX_SIZE_CELLS * 10, direction));
+            }
+        }
+        assertSame(CoverageMask.of(AreaShape.CONE, 1, EAST), CoverageMask.of(AreaShape.CONE, 0, EAST));
+    }
+
+    public void testLargestMasksFitTheirWindow() {
+        for (AreaShape shape : AreaShape.values()) {
+            for (int direction = 0; direction < CoverageMask.DIRECTIONS; direction++) {
+                CoverageMask mask = CoverageMask.of(shape, CoverageMask.MAX_SIZE_CELLS, direction);
+                int last = mask.getRowCount() - 1;
+                assertTrue(mask.getRowCount() <= 64);
+
+                // Nothing may touch the window's border, or the window would be truncating it
+                long border = 1L | (1L << last);
+                String where = shape + " facing " + direction;
+                assertEquals(where, 0L, mask.getRow(0));
+                assertEquals(where, 0L, mask.getRow(last));
+                for (int row = 1; row < last; row++) {
+                    assertEquals(where, 0L, mask.getRow(row) & border);
+                }
+            }
+        }
+    }
+
+    public void testLargestSphereShiftsIntoFullWidthRows() {
+        int radius = CoverageMask.MAX_SIZE_CELLS;
+        AreaTemplate template = new AreaTemplate(AreaShape.SPHERE, radius * AreaTemplate.FEET_PER_CELL);
+        long[] rows = new long[2 * radius + 1];
+
+        template.setOrigin(0, radius);
+        template.fillCoverage(rows, 64);
+        assertEquals((1L << (radius + 1)) - 1, rows[radius]);
+        assertEquals(1L, rows[0]);
+
+        template.setOrigin(63, radius);
+        template.fillCoverage(rows, 64);
+        assertEquals(-1L << (63 - radius), rows[radius]);
+        assertEquals(1L << 63, rows[0]);
+    }
+
+    private static void assertCoverage(AreaShape shape, int sizeFeet, int direction, int originX, int originY,
+                                       int columns, int rows, String... expected) {
+        AreaTemplate template = new AreaTemplate(shape, sizeFeet);
+        template.setDirection(direction);
+        template.setOrigin(originX, originY);
+
+        long[] coverage = new long[rows];
+        template.fillCoverage(coverage, columns);
+
+        StringBuilder actual = new StringBuilder();
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < columns; x++) {
+                boolean covered = (coverage[y] & (1L << x)) != 0;
+                if (x == originX && y == originY) {
+                    actual.append(covered ? 'O' : 'o');
+                } else {
+                    actual.append(covered ? '#' : '.');
+                }
+            }
+            actual.append('\n');
+        }
+        assertEquals(String.join("\n", expected) + "\n", actual.toString());
+    }
+}
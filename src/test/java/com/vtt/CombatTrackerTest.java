@@ -0,0 +1,170 @@
+package com.vtt;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turn order and active-index bookkeeping in {@link CombatTracker}.
+ */
+public class CombatTrackerTest extends TestCase {
+
+    private CombatTracker tracker;
+    private List<CombatEvent> events;
+
+    @Override
+    protected void setUp() {
+        tracker = new CombatTracker();
+        events = new ArrayList<>();
+        tracker.getEvents().subscribe(events::add);
+    }
+
+    public void testJoinSortsByInitiativeWithTiesInJoinOrder() {
+        Token slow = join(5);
+        Token first = join(12);
+        Token fast = join(18);
+        Token second = join(12);
+
+        assertEquals(List.of(fast, first, second, slow), tracker.getOrder());
+        assertEquals(2, lastEvent().getIndex());
+    }
+
+    public void testFirstTurnStartsRoundOne() {
+        Token fast = join(18);
+        join(5);
+
+        tracker.nextTurn();
+
+        assertSame(fast, tracker.getActiveToken());
+        assertEquals(1, tracker.getRound());
+    }
+
+    public void testNextTurnWrapsAndStartsNewRound() {
+        Token fast = join(18);
+        Token slow = join(5);
+
+        tracker.nextTurn();
+        tracker.nextTurn();
+        assertSame(slow, tracker.getActiveToken());
+        assertEquals(1, tracker.getRound());
+
+        tracker.nextTurn();
+        assertSame(fast, tracker.getActiveToken());
+        assertEquals(2, tracker.getRound());
+        assertEquals(List.of(slow, fast), lastEvent().getTokens());
+    }
+
+    public void testJoinBeforeActiveKeepsActiveToken() {
+        join(18);
+        Token slow = join(5);
+        tracker.nextTurn();
+        tracker.nextTurn();
+
+        join(10);
+
+        assertSame(slow, tracker.getActiveToken());
+        assertEquals(1, tracker.getRound());
+    }
+
+    public void testJoinAfterActiveKeepsActiveToken() {
+        Token fast = join(18);
+        join(5);
+        tracker.nextTurn();
+
+        join(10);
+
+        assertSame(fast, tracker.getActiveToken());
+    }
+
+    public void testLeaveBeforeActiveKeepsActiveToken() {
+        Token fast = join(18);
+        Token middle = join(10);
+        join(5);
+        tracker.nextTurn();
+        tracker.nextTurn();
+
+        tracker.leave(fast);
+
+        assertSame(middle, tracker.getActiveToken());
+        assertEquals(CombatEvent.Type.LEFT, lastEvent().getType());
+        assertEquals(0, lastEvent().getIndex());
+    }
+
+    public void testLeaveActivePassesTurnToNext() {
+        join(18);
+        Token middle = join(10);
+        Token slow = join(5);
+        tracker.nextTurn();
+        tracker.nextTurn();
+
+        tracker.leave(middle);
+
+        assertSame(slow, tracker.getActiveToken());
+        assertEquals(1, tracker.getRound());
+        assertEquals(CombatEvent.Type.TURN_CHANGED, lastEvent().getType());
+        assertEquals(List.of(slow), lastEvent().getTokens());
+    }
+
+    public void testLeaveActiveLastEntryWrapsToNextRound() {
+        Token fast = join(18);
+        Token slow = join(5);
+        tracker.nextTurn();
+        tracker.nextTurn();
+
+        tracker.leave(slow);
+
+        assertSame(fast, tracker.getActiveToken());
+        assertEquals(2, tracker.getRound());
+        assertNull(slow.getCombatant());
+        assertEquals(CombatEvent.Type.TURN_CHANGED, lastEvent().getType());
+        assertEquals(0, lastEvent().getIndex());
+    }
+
+    public void testLeaveLastCombatantEndsCombat() {
+        Token only = join(12);
+        tracker.nextTurn();
+
+        tracker.leave(only);
+
+        assertNull(tracker.getActiveToken());
+        assertEquals(0, tracker.getRound());
+        assertTrue(tracker.getOrder().isEmpty());
+    }
+
+    public void testSetInitiativeResortsAndKeepsActiveToken() {
+        Token fast = join(18);
+        Token middle = join(10);
+        Token slow = join(5);
+        tracker.nextTurn();
+        tracker.nextTurn();
+
+        tracker.setInitiative(slow, 20);
+
+        assertEquals(List.of(slow, fast, middle), tracker.getOrder());
+        assertSame(middle, tracker.getActiveToken());
+        assertEquals(CombatEvent.Type.REORDERED, lastEvent().getType());
+        assertEquals(0, lastEvent().getIndex());
+    }
+
+    public void testSetInitiativeToTieGoesAfterExistingEntries() {
+        Token fast = join(18);
+        Token middle = join(10);
+        Token slow = join(5);
+
+        tracker.setInitiative(fast, 10);
+
+        assertEquals(List.of(middle, fast, slow), tracker.getOrder());
+        assertEquals(10, fast.getCombatant().getInitiative());
+    }
+
+    private Token join(int initiative) {
+        Token token = new Token(0, 0, TokenType.MONSTER);
+        tracker.join(token, initiative, 10);
+        return token;
+    }
+
+    private CombatEvent lastEvent() {
+        return events.get(events.size() - 1);
+    }
+}
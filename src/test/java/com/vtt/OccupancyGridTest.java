@@ -0,0 +1,82 @@
+package com.vtt;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class OccupancyGridTest extends TestCase {
+
+    private final OccupancyGrid grid = new OccupancyGrid(20, 15);
+
+    public void testCollectsTokensOnCoveredCells() {
+        Token inside = place(3, 4);
+        place(5, 4);
+        Token edge = place(19, 14);
+
+        long[] coverage = new long[15];
+        coverage[4] = 1L << 3;
+        coverage[14] = 1L << 19;
+
+        assertEquals(List.of(inside, edge), covered(coverage));
+    }
+
+    public void testMoveAndRemoveUpdateOccupancy() {
+        Token token = place(2, 2);
+        long[] coverage = new long[15];
+        coverage[2] = 1L << 2;
+        coverage[7] = 1L << 9;
+
+        token.setGridX(9);
+        token.setGridY(7);
+        grid.move(token, 2, 2);
+        assertEquals(List.of(token), covered(coverage));
+
+        grid.remove(token);
+        assertTrue(covered(coverage).isEmpty());
+    }
+
+    public void testMoveDoesNotClearAnotherTokensCell() {
+        Token moved = place(1, 1);
+        Token other = place(6, 6);
+
+        // A stale source position that another token now occupies must be left alone
+        moved.setGridX(2);
+        grid.move(moved, 6, 6);
+
+        long[] coverage = new long[15];
+        coverage[6] = 1L << 6;
+        assertEquals(List.of(other), covered(coverage));
+    }
+
+    public void testRebuildMatchesIncrementalUpdates() {
+        List<Token> tokens = List.of(new Token(0, 0, TokenType.PLAYER), new Token(19, 0, TokenType.NPC),
+                new Token(-1, 3, TokenType.OBJECT));
+        grid.rebuild(tokens);
+
+        long[] coverage = new long[15];
+        coverage[0] = -1L;
+        assertEquals(tokens.subList(0, 2), covered(coverage));
+    }
+
+    public void testRejectsMoreColumnsThanARowMaskHolds() {
+        try {
+            new OccupancyGrid(65, 1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // Expected
+        }
+    }
+
+    private Token place(int gridX, int gridY) {
+        Token token = new Token(gridX, gridY, TokenType.MONSTER);
+        grid.add(token);
+        return token;
+    }
+
+    private List<Token> covered(long[] coverage) {
+        List<Token> result = new ArrayList<>();
+        grid.collectCovered(coverage, result);
+        return result;
+    }
+}